@@ -8,14 +8,17 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.taskmanager.commons.core.Config;
 import seedu.taskmanager.commons.core.EventsCenter;
 import seedu.taskmanager.commons.core.LogsCenter;
 import seedu.taskmanager.commons.core.Version;
 import seedu.taskmanager.commons.events.model.FilePathChangedEvent;
+import seedu.taskmanager.commons.events.model.TaskManagerChangedEvent;
 import seedu.taskmanager.commons.events.ui.ExitAppRequestEvent;
 import seedu.taskmanager.commons.exceptions.DataConversionException;
 import seedu.taskmanager.commons.util.ConfigUtil;
@@ -28,6 +31,7 @@ import seedu.taskmanager.model.ReadOnlyTaskManager;
 import seedu.taskmanager.model.TaskManager;
 import seedu.taskmanager.model.UserPrefs;
 import seedu.taskmanager.model.util.SampleDataUtil;
+import seedu.taskmanager.storage.JsonUserPrefsStorage;
 import seedu.taskmanager.storage.Storage;
 import seedu.taskmanager.storage.StorageManager;
 import seedu.taskmanager.ui.Ui;
@@ -41,12 +45,16 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 0, 0, true);
 
+    /** The longest wait between due-soon updates, so that they keep up with changes to the system clock. */
+    private static final long MAX_DUE_SOON_UPDATE_INTERVAL = 60000;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    private PauseTransition dueSoonTimer;
 
     @Override
     public void init() throws Exception {
@@ -54,7 +62,9 @@ public class MainApp extends Application {
         super.init();
 
         config = initConfig(getApplicationParameter("config"));
-        storage = new StorageManager(config.getTaskManagerFilePath(), config.getUserPrefsFilePath());
+        storage = new StorageManager(StorageManager.createTaskManagerStorage(config.getTaskManagerFilePath()),
+                new JsonUserPrefsStorage(config.getUserPrefsFilePath()), config.getSaveDebounceMillis(),
+                config.getSaveMaxDelayMillis());
 
         userPrefs = initPrefs(config);
 
@@ -91,7 +101,7 @@ public class MainApp extends Application {
             initialData = new TaskManager();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, config);
     }
 
     private void initLogging(Config config) {
@@ -168,12 +178,35 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting TaskManager " + MainApp.VERSION);
         ui.start(primaryStage);
+        dueSoonTimer = new PauseTransition();
+        dueSoonTimer.setOnFinished(event -> updateDueSoonStatus());
+        scheduleDueSoonUpdate();
+    }
+
+    private void updateDueSoonStatus() {
+        model.updateDueSoonStatus();
+        scheduleDueSoonUpdate();
+    }
+
+    /**
+     * Schedules the next due-soon update for just after the next task becomes due soon.
+     */
+    private void scheduleDueSoonUpdate() {
+        long delay = model.getNextDueSoonTime() - System.currentTimeMillis() + 1;
+        dueSoonTimer.setDuration(Duration.millis(Math.max(0, Math.min(delay, MAX_DUE_SOON_UPDATE_INTERVAL))));
+        dueSoonTimer.playFromStart();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Task Manager ] =============================");
+        if (dueSoonTimer != null) {
+            dueSoonTimer.stop();
+        }
         ui.stop();
+        storage.flushPendingSaves();
+        logger.info("Task manager saved; changes took at most " + storage.getMaxSaveLatencyMillis()
+                + " ms to be saved");
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -189,10 +222,21 @@ public class MainApp extends Application {
         this.stop();
     }
 
+    /**
+     * Reschedules the next due-soon update, as the changed tasks may become due soon earlier.
+     */
+    @Subscribe
+    public void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
+        if (dueSoonTimer != null) {
+            scheduleDueSoonUpdate();
+        }
+    }
+
     @Subscribe
     public void handleFilePathChangedEvent(FilePathChangedEvent fpse) {
         logger.info(LogsCenter.getEventHandlingLogMessage(fpse, "Config data changed, saving to file"));
         String oldFilePath = config.getTaskManagerFilePath();
+        storage.flushPendingSaves();
         try {
             storage.setTaskManagerFilePath(fpse.filePath);
             storage.saveTaskManager(model.getTaskManager());
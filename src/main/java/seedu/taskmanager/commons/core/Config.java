@@ -10,6 +10,19 @@ import java.util.logging.Level;
 public class Config {
 
     public static final String DEFAULT_CONFIG_FILE = "config.json";
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 1000;
+    public static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 300;
+    public static final long DEFAULT_SAVE_MAX_DELAY_MILLIS = 2000;
+
+    /**
+     * The ways in which undo history can be kept.
+     */
+    public enum UndoEngine {
+        /** Keeps a structurally shared snapshot of the task manager after every command. */
+        SNAPSHOT,
+        /** Keeps the changes made by every command, and undoes them by applying their inverses. */
+        JOURNAL
+    }
 
     // Config values customizable through config file
     private String appTitle = "potaTO-DO";
@@ -18,6 +31,10 @@ public class Config {
     private String taskManagerFilePath = "data/taskmanager.xml";
     private String taskManagerName = "MyTaskManager";
     private String configFilePath = DEFAULT_CONFIG_FILE;
+    private UndoEngine undoEngine = UndoEngine.SNAPSHOT;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private long saveDebounceMillis = DEFAULT_SAVE_DEBOUNCE_MILLIS;
+    private long saveMaxDelayMillis = DEFAULT_SAVE_MAX_DELAY_MILLIS;
 
     public String getAppTitle() {
         return appTitle;
@@ -67,6 +84,49 @@ public class Config {
         this.configFilePath = newPath;
     }
 
+    public UndoEngine getUndoEngine() {
+        return undoEngine;
+    }
+
+    public void setUndoEngine(UndoEngine undoEngine) {
+        this.undoEngine = undoEngine;
+    }
+
+    /**
+     * Returns the maximum number of commands that can be undone. Older commands are forgotten.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns how long the task manager data must stay unchanged before it is saved, so that a burst of changes is
+     * saved once.
+     */
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    /**
+     * Returns the longest time a change to the task manager data may wait to be saved, however often it keeps
+     * changing.
+     */
+    public long getSaveMaxDelayMillis() {
+        return saveMaxDelayMillis;
+    }
+
+    public void setSaveMaxDelayMillis(long saveMaxDelayMillis) {
+        this.saveMaxDelayMillis = saveMaxDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,12 +141,17 @@ public class Config {
         return Objects.equals(appTitle, o.appTitle) && Objects.equals(logLevel, o.logLevel)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
                 && Objects.equals(taskManagerFilePath, o.taskManagerFilePath)
-                && Objects.equals(taskManagerName, o.taskManagerName);
+                && Objects.equals(taskManagerName, o.taskManagerName)
+                && Objects.equals(undoEngine, o.undoEngine)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && saveDebounceMillis == o.saveDebounceMillis
+                && saveMaxDelayMillis == o.saveMaxDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath, taskManagerFilePath, taskManagerName);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, taskManagerFilePath, taskManagerName, undoEngine,
+                undoHistoryLimit, saveDebounceMillis, saveMaxDelayMillis);
     }
 
     @Override
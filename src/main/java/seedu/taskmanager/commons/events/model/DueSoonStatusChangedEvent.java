@@ -0,0 +1,22 @@
+package seedu.taskmanager.commons.events.model;
+
+import java.util.List;
+
+import seedu.taskmanager.commons.events.BaseEvent;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/** Indicates that the due-soon status of some tasks in the model has changed, as a batch */
+public class DueSoonStatusChangedEvent extends BaseEvent {
+
+    /** The tasks whose due-soon status changed. */
+    public final List<ReadOnlyTask> tasks;
+
+    public DueSoonStatusChangedEvent(List<ReadOnlyTask> tasks) {
+        this.tasks = tasks;
+    }
+
+    @Override
+    public String toString() {
+        return "number of tasks " + tasks.size();
+    }
+}
@@ -3,19 +3,22 @@
 package seedu.taskmanager.commons.events.model;
 
 import seedu.taskmanager.commons.events.BaseEvent;
-import seedu.taskmanager.model.ReadOnlyTaskManager;
+import seedu.taskmanager.model.TaskManagerSnapshot;
 
-/** Indicates the TaskManager in the model has changed */
+/**
+ * Indicates the TaskManager in the model has changed. Carries an immutable snapshot of the state after the change,
+ * so handlers on other threads can read it while the model keeps changing.
+ */
 public class TaskManagerChangedEvent extends BaseEvent {
 
-    public final ReadOnlyTaskManager data;
+    public final TaskManagerSnapshot data;
 
-    public TaskManagerChangedEvent(ReadOnlyTaskManager data) {
+    public TaskManagerChangedEvent(TaskManagerSnapshot data) {
         this.data = data;
     }
 
     @Override
     public String toString() {
-        return "number of tasks " + data.getTaskList().size() + ", number of tags " + data.getTagList().size();
+        return "number of tasks " + data.getTaskCount() + ", number of tags " + data.getTagCount();
     }
 }
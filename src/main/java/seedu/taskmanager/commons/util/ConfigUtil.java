@@ -3,8 +3,10 @@ package seedu.taskmanager.commons.util;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.logging.Logger;
 
 import seedu.taskmanager.commons.core.Config;
+import seedu.taskmanager.commons.core.LogsCenter;
 import seedu.taskmanager.commons.exceptions.DataConversionException;
 
 /**
@@ -12,12 +14,37 @@ import seedu.taskmanager.commons.exceptions.DataConversionException;
  */
 public class ConfigUtil {
 
+    private static final Logger logger = LogsCenter.getLogger(ConfigUtil.class);
+
     public static Optional<Config> readConfig(String configFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(configFilePath, Config.class);
+        Optional<Config> config = JsonUtil.readJsonFile(configFilePath, Config.class);
+        config.ifPresent(ConfigUtil::replaceInvalidValues);
+        return config;
     }
 
     public static void saveConfig(Config config, String configFilePath) throws IOException {
         JsonUtil.saveJsonFile(config, configFilePath);
     }
 
+    /**
+     * Replaces the values in {@code config} that cannot be used with their defaults, keeping the rest of the file.
+     */
+    private static void replaceInvalidValues(Config config) {
+        if (config.getUndoHistoryLimit() < 0) {
+            logger.warning("undoHistoryLimit " + config.getUndoHistoryLimit() + " is negative. Using "
+                    + Config.DEFAULT_UNDO_HISTORY_LIMIT);
+            config.setUndoHistoryLimit(Config.DEFAULT_UNDO_HISTORY_LIMIT);
+        }
+        if (config.getSaveDebounceMillis() < 0) {
+            logger.warning("saveDebounceMillis " + config.getSaveDebounceMillis() + " is negative. Using "
+                    + Config.DEFAULT_SAVE_DEBOUNCE_MILLIS);
+            config.setSaveDebounceMillis(Config.DEFAULT_SAVE_DEBOUNCE_MILLIS);
+        }
+        if (config.getSaveMaxDelayMillis() < 0) {
+            logger.warning("saveMaxDelayMillis " + config.getSaveMaxDelayMillis() + " is negative. Using "
+                    + Config.DEFAULT_SAVE_MAX_DELAY_MILLIS);
+            config.setSaveMaxDelayMillis(Config.DEFAULT_SAVE_MAX_DELAY_MILLIS);
+        }
+    }
+
 }
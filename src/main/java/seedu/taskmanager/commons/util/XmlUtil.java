@@ -3,6 +3,9 @@ package seedu.taskmanager.commons.util;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -11,9 +14,17 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ * <p>
+ * Building a {@link JAXBContext} is expensive, so one is built per class and kept for later calls. Marshallers and
+ * unmarshallers are cheap to create but not thread-safe, so each thread keeps its own per class.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      * @param file
@@ -36,10 +47,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
-
-        return ((T) um.unmarshal(file));
+        return ((T) getUnmarshaller(classToConvert).unmarshal(file));
     }
 
     /**
@@ -60,11 +68,52 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        getMarshaller(data.getClass()).marshal(data, file);
+    }
+
+    /**
+     * Returns the JAXB context for {@code type}, building it on the first call for that class.
+     * @throws JAXBException
+     *         Thrown if {@code type} cannot be bound to xml.
+     */
+    static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            // Two threads may build a context at the same time; both work, and only the first is kept
+            JAXBContext builtContext = JAXBContext.newInstance(type);
+            context = contexts.putIfAbsent(type, builtContext);
+            if (context == null) {
+                context = builtContext;
+            }
+        }
+        return context;
+    }
 
-        m.marshal(data, file);
+    /**
+     * Returns the calling thread's marshaller for {@code type}, which writes formatted xml.
+     */
+    private static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller marshaller = threadMarshallers.get(type);
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            threadMarshallers.put(type, marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * Returns the calling thread's unmarshaller for {@code type}.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller unmarshaller = threadUnmarshallers.get(type);
+        if (unmarshaller == null) {
+            unmarshaller = getContext(type).createUnmarshaller();
+            threadUnmarshallers.put(type, unmarshaller);
+        }
+        return unmarshaller;
     }
 
 }
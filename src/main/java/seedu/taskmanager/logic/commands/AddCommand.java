@@ -75,11 +75,13 @@ public class AddCommand extends Command {
         assertNotNull(toAdd);
         StringBuilder conflictingTasksStringBuilder = new StringBuilder(EMPTY_STRING);
 
-        for (ReadOnlyTask task : model.getTaskManager().getTaskList()) {
-            if (DateTimeUtil.isConflicting(toAdd, task)) {
-                conflictingTasksStringBuilder.append(task.getAsText());
-                conflictingTasksStringBuilder.append(NEW_LINE_STRING);
-            }
+        if (!toAdd.isEvent() || toAdd.isDone()) {
+            return conflictingTasksStringBuilder.toString();
+        }
+
+        for (ReadOnlyTask task : model.getEventsOverlapping(toAdd.getStartDate(), toAdd.getEndDate())) {
+            conflictingTasksStringBuilder.append(task.getAsText());
+            conflictingTasksStringBuilder.append(NEW_LINE_STRING);
         }
         return conflictingTasksStringBuilder.toString();
     }
@@ -88,12 +90,11 @@ public class AddCommand extends Command {
     public CommandResult execute() throws CommandException {
         assertNotNull(model);
         try {
-            if (allConflictingTasks(toAdd).isEmpty()) {
-                model.addTask(toAdd);
+            String allConflictingTasksString = allConflictingTasks(toAdd);
+            model.addTask(toAdd);
+            if (allConflictingTasksString.isEmpty()) {
                 return new CommandResult(MESSAGE_SUCCESS);
             } else {
-                String allConflictingTasksString = allConflictingTasks(toAdd);
-                model.addTask(toAdd);
                 String feedback = MESSAGE_SUCCESS;
                 feedback += NEW_LINE_STRING + MESSAGE_CONFLICT + NEW_LINE_STRING + allConflictingTasksString;
                 return new CommandResult(feedback);
@@ -1,6 +1,10 @@
 
 package seedu.taskmanager.logic.commands;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.taskmanager.commons.core.Messages;
 import seedu.taskmanager.commons.core.UnmodifiableObservableList;
 import seedu.taskmanager.logic.commands.exceptions.CommandException;
@@ -8,22 +12,30 @@ import seedu.taskmanager.model.task.ReadOnlyTask;
 import seedu.taskmanager.model.task.UniqueTaskList.TaskNotFoundException;
 
 /**
- * Deletes a task identified using it's last displayed index from the task manager.
+ * Deletes the tasks identified using their last displayed indices from the task manager, as a single change.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE =
-            COMMAND_WORD + ": Deletes the task identified by the index number used in the last task listing.\n"
-                    + "Parameters: INDEX (must be a positive integer)\n" + "Example: " + COMMAND_WORD + " 1";
+            COMMAND_WORD + ": Deletes the tasks identified by the index numbers used in the last task listing.\n"
+                    + "Parameters: INDEX... (positive integers, or ranges of them such as 2-5)\n" + "Example: "
+                    + COMMAND_WORD + " 1, " + COMMAND_WORD + " 2-5 8";
 
     public static final String MESSAGE_DELETE_TASK_SUCCESS = "Deleted Task: %1$s";
+    public static final String MESSAGE_DELETE_TASKS_SUCCESS = "Deleted %1$d tasks";
 
-    public final int targetIndex;
+    /** The one-based indices of the tasks to delete, in increasing order. */
+    public final List<Integer> targetIndices;
 
     public DeleteCommand(int targetIndex) {
-        this.targetIndex = targetIndex;
+        this(Collections.singletonList(targetIndex));
+    }
+
+    public DeleteCommand(List<Integer> targetIndices) {
+        assert !targetIndices.isEmpty();
+        this.targetIndices = targetIndices;
     }
 
     @Override
@@ -31,19 +43,23 @@ public class DeleteCommand extends Command {
 
         UnmodifiableObservableList<ReadOnlyTask> lastShownList = model.getFilteredTaskList();
 
-        if (lastShownList.size() < targetIndex) {
+        if (lastShownList.size() < targetIndices.get(targetIndices.size() - 1)) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
-        ReadOnlyTask taskToDelete = lastShownList.get(targetIndex - 1);
+        List<ReadOnlyTask> tasksToDelete =
+                targetIndices.stream().map(index -> lastShownList.get(index - 1)).collect(Collectors.toList());
 
         try {
-            model.deleteTask(taskToDelete);
+            model.deleteTasks(tasksToDelete);
         } catch (TaskNotFoundException pnfe) {
             assert false : "The target task cannot be missing";
         }
 
-        return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
+        if (tasksToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, tasksToDelete.get(0)));
+        }
+        return new CommandResult(String.format(MESSAGE_DELETE_TASKS_SUCCESS, tasksToDelete.size()));
     }
 
     // @@author A0140417R
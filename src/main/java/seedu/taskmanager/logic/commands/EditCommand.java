@@ -67,9 +67,10 @@ public class EditCommand extends Command {
         }
 
         ReadOnlyTask taskToEdit = lastShownList.get(filteredTaskListIndex);
+        Task editedTask;
 
         try {
-            Task editedTask = createEditedTask(taskToEdit, editTaskDescriptor);
+            editedTask = createEditedTask(taskToEdit, editTaskDescriptor);
             model.updateTask(filteredTaskListIndex, editedTask);
         } catch (UniqueTaskList.DuplicateTaskException dpe) {
             throw new CommandException(MESSAGE_DUPLICATE_TASK);
@@ -80,7 +81,7 @@ public class EditCommand extends Command {
         }
 
         model.updateFilteredListToShowAll();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, taskToEdit));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, editedTask));
     }
 
     /**
@@ -90,26 +91,28 @@ public class EditCommand extends Command {
             throws IllegalValueException {
         assertNotNull(taskToEdit);
 
-        Name updatedName = editTaskDescriptor.getName().orElseGet(taskToEdit::getName);
-        UniqueTagList updatedTags = editTaskDescriptor.getTags().orElseGet(taskToEdit::getTags);
-        Boolean doneStatus = taskToEdit.isDone();
-        TaskDate updatedStartDate = null;
-        TaskDate updatedEndDate = null;
+        Task.Builder builder = new Task.Builder(taskToEdit);
+        editTaskDescriptor.getName().ifPresent(builder::setName);
+        editTaskDescriptor.getTags().ifPresent(builder::setTags);
 
-        if (!editTaskDescriptor.startDateRemoved()) {
-            updatedStartDate = editTaskDescriptor.getStartDate().orElseGet(taskToEdit::getStartDate);
+        if (editTaskDescriptor.startDateRemoved()) {
+            builder.setStartDate(null);
+        } else {
+            editTaskDescriptor.getStartDate().ifPresent(builder::setStartDate);
         }
 
-        if (!editTaskDescriptor.endDateRemoved()) {
-            updatedEndDate = editTaskDescriptor.getEndDate().orElseGet(taskToEdit::getEndDate);
+        if (editTaskDescriptor.endDateRemoved()) {
+            builder.setEndDate(null);
+        } else {
+            editTaskDescriptor.getEndDate().ifPresent(builder::setEndDate);
         }
 
-        Task createdTask = new Task(updatedName, updatedStartDate, updatedEndDate, updatedTags, doneStatus);
+        Task createdTask = builder.build();
 
         // If the created task is an event, the startDate should be before the
         // endDate
         if (createdTask.isEvent()
-                && !createdTask.getStartDate().getTaskDate().before(createdTask.getEndDate().getTaskDate())) {
+                && !createdTask.getStartDate().isBefore(createdTask.getEndDate())) {
             throw new IllegalValueException(MESSAGE_START_AFTER_END);
         }
 
@@ -118,7 +121,7 @@ public class EditCommand extends Command {
             throw new IllegalValueException(MESSAGE_INVALID_EDITTED_TASK);
         }
 
-        return new Task(updatedName, updatedStartDate, updatedEndDate, updatedTags, doneStatus);
+        return createdTask;
     }
 
     /**
@@ -1,29 +1,38 @@
 
 package seedu.taskmanager.logic.commands;
 
+import java.util.List;
 import java.util.Set;
 
 /**
- * Finds and lists all tasks in task manager whose name contains any of the argument keywords. Keyword matching is case
- * sensitive.
+ * Finds and lists all tasks in task manager whose name contains any of the argument keywords. Keywords joined by
+ * {@value #KEYWORD_CONJUNCTION} must all be present. Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose names contain any of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n" + "Example: " + COMMAND_WORD + " meeting dinner";
-
-    private final Set<String> keywords;
+    public static final String KEYWORD_CONJUNCTION = "&";
 
-    public FindCommand(Set<String> keywords) {
-        this.keywords = keywords;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose names contain any of "
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers. "
+            + "Keywords joined by " + KEYWORD_CONJUNCTION + " must all be present.\n"
+            + "Parameters: KEYWORD[" + KEYWORD_CONJUNCTION + "KEYWORD]... [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " meeting dinner" + KEYWORD_CONJUNCTION + "friday";
+
+    private final List<Set<String>> keywordGroups;
+
+    /**
+     * @param keywordGroups
+     *        a task matches if its name contains all the keywords of any one group
+     */
+    public FindCommand(List<Set<String>> keywordGroups) {
+        this.keywordGroups = keywordGroups;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredTaskListByTaskName(keywords);
+        model.updateFilteredTaskListByTaskNameGroups(keywordGroups);
         return new CommandResult(getMessageForTaskListShownSummary(model.getFilteredTaskList().size()));
     }
 
@@ -5,6 +5,9 @@ import static org.junit.Assert.assertNotNull;
 
 import static seedu.taskmanager.commons.util.CommonStringUtil.EMPTY_STRING;
 
+import seedu.taskmanager.model.TaskQuery;
+import seedu.taskmanager.model.tag.Tag;
+
 // @@author A0140538J
 /**
  * Lists all, task type, date or done status in the task manager to the user.
@@ -14,7 +17,8 @@ public class ListCommand extends Command {
     public static final String COMMAND_WORD = "list";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the details of all tasks, "
-            + "task type, date or done status. \n" + "Parameters: [(floating/deadline/event) / DATE / (done/undone)] \n"
+            + "task type, date, done status or tag. \n"
+            + "Parameters: [(floating/deadline/event) / DATE / (done/undone) / t/TAG] \n"
             + "Example: " + COMMAND_WORD + " floating";
 
     public static final String MESSAGE_SUCCESS = "Listed all tasks";
@@ -23,6 +27,7 @@ public class ListCommand extends Command {
 
     private String filter = null;
     private String[] filters;
+    private Tag tag;
 
     public ListCommand(String filter) {
         this.filter = filter;
@@ -32,10 +37,19 @@ public class ListCommand extends Command {
         this.filters = filters;
     }
 
+    public ListCommand(Tag tag) {
+        this.tag = tag;
+    }
+
     @Override
     public CommandResult execute() {
         assertNotNull(model);
 
+        if (tag != null) {
+            model.updateFilteredTaskList(TaskQuery.withTag(tag));
+            return new CommandResult(MESSAGE_SUCCESS + " (" + tag + ")");
+        }
+
         if (filter != null) {
             if (filter.equals(EMPTY_STRING)) {
                 model.updateFilteredListToShowAll();
@@ -4,11 +4,16 @@ package seedu.taskmanager.logic.commands;
 import static org.junit.Assert.assertNotNull;
 
 import static seedu.taskmanager.commons.util.CommonStringUtil.DONE_STRING;
-import static seedu.taskmanager.commons.util.CommonStringUtil.UNDONE_STRING;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.taskmanager.commons.core.Messages;
 import seedu.taskmanager.commons.core.UnmodifiableObservableList;
 import seedu.taskmanager.logic.commands.exceptions.CommandException;
+import seedu.taskmanager.model.TaskMutation;
 import seedu.taskmanager.model.task.ReadOnlyTask;
 import seedu.taskmanager.model.task.Task;
 import seedu.taskmanager.model.task.UniqueTaskList;
@@ -22,66 +27,87 @@ public class MarkCommand extends Command {
     public static final String COMMAND_WORD = "mark";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks the task done/undone identified by the index number used in the last task listing.\n"
-            + "Parameters: INDEX (must be a positive integer)\n" + "Example: " + COMMAND_WORD + " 1 done";
+            + ": Marks the tasks done/undone identified by the index numbers used in the last task listing.\n"
+            + "Parameters: INDEX... (positive integers, or ranges of them such as 2-5) STATUS (done or undone)\n"
+            + "Example: " + COMMAND_WORD + " 1 done, " + COMMAND_WORD + " 3 7-9 undone";
 
     public static final String MESSAGE_SUCCESS = "Marked Task: %1$s";
+    public static final String MESSAGE_SUCCESS_MULTIPLE = "Marked %1$d tasks %2$s";
     public static final String MESSAGE_ALREADY_DONE = "This task is already marked as done.";
     public static final String MESSAGE_ALREADY_UNDONE = "This task is already marked as undone.";
 
     // Used for unexpected exceptions that needs re-implementation
     public static final String MESSAGE_GENERIC_ERROR = "MarkCommand Error";
 
-    public final int targetIndex;
+    /** The one-based indices of the tasks to mark, in increasing order. */
+    public final List<Integer> targetIndices;
     public final String newMarkStatus;
 
     public MarkCommand(int targetIndex, String newMarkStatus) {
-        assert targetIndex > 0;
+        this(Collections.singletonList(targetIndex), newMarkStatus);
+    }
+
+    public MarkCommand(List<Integer> targetIndices, String newMarkStatus) {
+        assert !targetIndices.isEmpty() && targetIndices.get(0) > 0;
         assertNotNull(newMarkStatus);
 
-        this.targetIndex = targetIndex - 1;
+        this.targetIndices = targetIndices;
         this.newMarkStatus = newMarkStatus;
     }
 
+    /**
+     * Marks every target task not already in the new status, as a single change. Fails only if all of them already
+     * are.
+     */
     @Override
     public CommandResult execute() throws CommandException {
 
         UnmodifiableObservableList<ReadOnlyTask> lastShownList = model.getFilteredTaskList();
 
-        if (lastShownList.size() < targetIndex + 1) {
+        if (lastShownList.size() < targetIndices.get(targetIndices.size() - 1)) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
-        ReadOnlyTask toBeMarked = lastShownList.get(targetIndex);
+        boolean isMarkingDone = newMarkStatus.equals(DONE_STRING);
+        List<ReadOnlyTask> toBeMarked = targetIndices.stream().map(index -> lastShownList.get(index - 1))
+                .filter(task -> task.isDone() != isMarkingDone).collect(Collectors.toList());
 
-        if (toBeMarked.isDone() && newMarkStatus.equals(DONE_STRING)) {
-            throw new CommandException(MESSAGE_ALREADY_DONE);
+        if (toBeMarked.isEmpty()) {
+            throw new CommandException(isMarkingDone ? MESSAGE_ALREADY_DONE : MESSAGE_ALREADY_UNDONE);
         }
 
-        if (!toBeMarked.isDone() && newMarkStatus.equals(UNDONE_STRING)) {
-            throw new CommandException(MESSAGE_ALREADY_UNDONE);
+        if (targetIndices.size() == 1) {
+            Task markedTask = createMarkedTask(toBeMarked.get(0), isMarkingDone);
+            try {
+                model.updateTask(targetIndices.get(0) - 1, markedTask);
+            } catch (UniqueTaskList.DuplicateTaskException dpe) {
+                throw new CommandException(MESSAGE_GENERIC_ERROR);
+            }
+            return new CommandResult(String.format(MESSAGE_SUCCESS, markedTask));
         }
 
+        List<Task> markedTasks =
+                toBeMarked.stream().map(task -> createMarkedTask(task, isMarkingDone)).collect(Collectors.toList());
+        List<TaskMutation> mutations = new ArrayList<>();
+        for (int i = 0; i < toBeMarked.size(); i++) {
+            mutations.add(TaskMutation.update(toBeMarked.get(i), markedTasks.get(i)));
+        }
         try {
-            Task markedTask = createMarkedTask(toBeMarked);
-            model.updateTask(targetIndex, markedTask);
+            model.applyBatch(mutations);
         } catch (UniqueTaskList.DuplicateTaskException dpe) {
             throw new CommandException(MESSAGE_GENERIC_ERROR);
+        } catch (UniqueTaskList.TaskNotFoundException tnfe) {
+            assert false : "The target tasks cannot be missing";
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toBeMarked));
-    }
-
-    private Task createMarkedTask(ReadOnlyTask toBeMarked) {
-        Task newMarkedTask = new Task(toBeMarked);
-
-        if (newMarkedTask.isDone()) {
-            newMarkedTask.setDoneStatus(false);
-        } else {
-            newMarkedTask.setDoneStatus(true);
+        if (markedTasks.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, markedTasks.get(0)));
         }
+        return new CommandResult(String.format(MESSAGE_SUCCESS_MULTIPLE, markedTasks.size(), newMarkStatus));
+    }
 
-        return newMarkedTask;
+    private Task createMarkedTask(ReadOnlyTask toBeMarked, boolean isDone) {
+        return new Task.Builder(toBeMarked).setDoneStatus(isDone).build();
     }
 
     @Override
@@ -12,7 +12,7 @@ public class SetNotificationCommand extends Command {
 
     public static final String COMMAND_WORD = "set";
     public static final String MESSAGE_SUCCESS = "New notification time has been set.\n"
-            + "Please refresh PotaTodo to apply the changes.\n" + "New set duration: %1$s";
+            + "New set duration: %1$s";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Sets a visual notification for tasks expiring within the stipulated time.\n" + "Example: "
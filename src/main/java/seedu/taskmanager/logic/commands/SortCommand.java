@@ -0,0 +1,38 @@
+package seedu.taskmanager.logic.commands;
+
+import seedu.taskmanager.model.TaskSortOrder;
+
+/**
+ * Sorts the task list shown to the user by deadline, start date or name, or restores the stored order.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the shown tasks by deadline, start date or "
+            + "name. Without a parameter, shows the tasks in the order they were added.\n"
+            + "Parameters: [deadline/start/name]\n" + "Example: " + COMMAND_WORD + " deadline";
+
+    public static final String MESSAGE_SUCCESS = "Sorted tasks by %1$s";
+    public static final String MESSAGE_UNSORTED = "Showing tasks in the order they were added";
+
+    private final TaskSortOrder sortOrder;
+
+    public SortCommand(TaskSortOrder sortOrder) {
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute() {
+        model.sortFilteredTaskList(sortOrder);
+        if (sortOrder == TaskSortOrder.NONE) {
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortOrder.getKeyword()));
+    }
+
+    @Override
+    public boolean mutatesTaskManager() {
+        return false;
+    }
+}
@@ -8,7 +8,6 @@ import static seedu.taskmanager.logic.parser.CliSyntax.PREFIX_ENDDATE;
 import static seedu.taskmanager.logic.parser.CliSyntax.PREFIX_STARTDATE;
 import static seedu.taskmanager.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.Date;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -16,6 +15,7 @@ import seedu.taskmanager.commons.exceptions.IllegalValueException;
 import seedu.taskmanager.logic.commands.AddCommand;
 import seedu.taskmanager.logic.commands.Command;
 import seedu.taskmanager.logic.commands.IncorrectCommand;
+import seedu.taskmanager.model.task.TaskDate;
 
 // @@author A0140417R
 /**
@@ -88,10 +88,10 @@ public class AddCommandParser {
         String startDateString = argsTokenizer.getValue(PREFIX_STARTDATE).get();
         String endDateString = argsTokenizer.getValue(PREFIX_ENDDATE).get();
 
-        Date startDate = DateTimeUtil.parseStartDateTime(startDateString).getTaskDate();
-        Date endDate = DateTimeUtil.parseEndDateTime(endDateString).getTaskDate();
+        TaskDate startDate = DateTimeUtil.parseStartDateTime(startDateString);
+        TaskDate endDate = DateTimeUtil.parseEndDateTime(endDateString);
 
-        return startDate.before(endDate);
+        return startDate.isBefore(endDate);
     }
 
     private String getEndDateFromArgsTokenizer(ArgumentTokenizer argsTokenizer) throws IllegalValueException {
@@ -5,6 +5,7 @@ package seedu.taskmanager.logic.parser;
 import static org.junit.Assert.assertNotNull;
 
 import java.text.DateFormat;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
@@ -120,6 +121,27 @@ public class DateTimeUtil {
         return onlyDateFormat.format(date);
     }
 
+    // Inverse of getStringFromDate
+    // @return the date, or null if the whole string is not in DATE_STRING_FORMAT
+    public static Date getDateFromString(String dateString) {
+        assertNotNull(dateString);
+        return parseWholeString(new SimpleDateFormat(DATE_STRING_FORMAT), dateString);
+    }
+
+    // Inverse of getOnlyDateStringFromDate
+    // @return the start of the date, or null if the whole string is not in ONLY_DATE_STRING_FORMAT
+    public static Date getDateFromOnlyDateString(String dateString) {
+        assertNotNull(dateString);
+        return parseWholeString(new SimpleDateFormat(ONLY_DATE_STRING_FORMAT), dateString);
+    }
+
+    private static Date parseWholeString(DateFormat dateFormat, String dateString) {
+        dateFormat.setLenient(false);
+        ParsePosition position = new ParsePosition(0);
+        Date date = dateFormat.parse(dateString, position);
+        return position.getIndex() == dateString.length() ? date : null;
+    }
+
     // Check if the DateGroup argument input is valid
     private static boolean isValidArg(List<DateGroup> parsedDatesList) {
         if (parsedDatesList != null && !parsedDatesList.isEmpty()) {
@@ -179,12 +201,12 @@ public class DateTimeUtil {
                 || taskToBeChecked.isDone()) {
             return false;
         }
-        Date startDateToBeChecked = taskToBeChecked.getStartDate().getTaskDate();
-        Date endDateToBeChecked = taskToBeChecked.getEndDate().getTaskDate();
-        Date startDateToBeComparedWith = taskToBeComparedWith.getStartDate().getTaskDate();
-        Date endDateToBeComparedWith = taskToBeComparedWith.getEndDate().getTaskDate();
+        TaskDate startDateToBeChecked = taskToBeChecked.getStartDate();
+        TaskDate endDateToBeChecked = taskToBeChecked.getEndDate();
+        TaskDate startDateToBeComparedWith = taskToBeComparedWith.getStartDate();
+        TaskDate endDateToBeComparedWith = taskToBeComparedWith.getEndDate();
 
-        return !startDateToBeChecked.after(endDateToBeComparedWith)
-                && !startDateToBeComparedWith.after(endDateToBeChecked);
+        return !startDateToBeChecked.isAfter(endDateToBeComparedWith)
+                && !startDateToBeComparedWith.isAfter(endDateToBeChecked);
     }
 }
@@ -4,10 +4,13 @@ package seedu.taskmanager.logic.parser;
 import static seedu.taskmanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.taskmanager.logic.parser.CliSyntax.KEYWORDS_ARGS_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import seedu.taskmanager.logic.commands.Command;
 import seedu.taskmanager.logic.commands.FindCommand;
@@ -28,10 +31,19 @@ public class FindCommandParser {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        // keywords delimited by whitespace
-        final String[] keywords = matcher.group("keywords").split("\\s+");
-        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new FindCommand(keywordSet);
+        // keyword groups delimited by whitespace, keywords within a group delimited by the conjunction
+        final List<Set<String>> keywordGroups = new ArrayList<>();
+        for (String group : matcher.group("keywords").split("\\s+")) {
+            final Set<String> keywordSet = Arrays.stream(group.split(Pattern.quote(FindCommand.KEYWORD_CONJUNCTION)))
+                    .filter(keyword -> !keyword.isEmpty()).collect(Collectors.toSet());
+            if (!keywordSet.isEmpty()) {
+                keywordGroups.add(keywordSet);
+            }
+        }
+        if (keywordGroups.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(keywordGroups);
     }
 
 }
@@ -5,10 +5,13 @@ import static seedu.taskmanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FO
 import static seedu.taskmanager.commons.util.CommonStringUtil.DEADLINE_STRING;
 import static seedu.taskmanager.commons.util.CommonStringUtil.EVENT_STRING;
 import static seedu.taskmanager.commons.util.CommonStringUtil.FLOATING_TASK_STRING;
+import static seedu.taskmanager.logic.parser.CliSyntax.PREFIX_TAG;
 
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
 import seedu.taskmanager.logic.commands.Command;
 import seedu.taskmanager.logic.commands.IncorrectCommand;
 import seedu.taskmanager.logic.commands.ListCommand;
+import seedu.taskmanager.model.tag.Tag;
 
 // @@author A0140538J
 /**
@@ -23,6 +26,14 @@ public class ListCommandParser {
 
         String modifiedArg = arg.trim();
 
+        if (modifiedArg.startsWith(PREFIX_TAG.getPrefix())) {
+            try {
+                return new ListCommand(new Tag(modifiedArg.substring(PREFIX_TAG.getPrefix().length())));
+            } catch (IllegalValueException ive) {
+                return new IncorrectCommand(ive.getMessage());
+            }
+        }
+
         ListArgumentsUtil argumentChecker = new ListArgumentsUtil(modifiedArg);
         if (!argumentChecker.acceptedWords.contains(modifiedArg) && !argumentChecker.isDate) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
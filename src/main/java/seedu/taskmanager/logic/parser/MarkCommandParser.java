@@ -7,6 +7,7 @@ import static seedu.taskmanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FO
 import static seedu.taskmanager.commons.util.CommonStringUtil.DONE_STRING;
 import static seedu.taskmanager.commons.util.CommonStringUtil.UNDONE_STRING;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,22 +31,22 @@ public class MarkCommandParser {
         ArgumentTokenizer argsTokenizer = new ArgumentTokenizer();
         argsTokenizer.tokenize(args);
 
-        List<Optional<String>> preambleFields = ParserUtil.splitPreamble(argsTokenizer.getPreamble().orElse(""), 2);
-
-        Optional<Integer> index = preambleFields.get(0).flatMap(ParserUtil::parseIndex);
-        if (!index.isPresent()) {
+        String[] preambleWords = argsTokenizer.getPreamble().orElse("").trim().split("\\s+");
+        if (preambleWords.length < 2) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
         }
 
-        if (!preambleFields.get(1).isPresent()) {
+        String indexWords = String.join(" ", Arrays.copyOf(preambleWords, preambleWords.length - 1));
+        Optional<List<Integer>> indices = ParserUtil.parseIndices(indexWords);
+        if (!indices.isPresent()) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
         }
 
-        if (!preambleFields.get(1).get().toLowerCase().equals(DONE_STRING)
-                && !preambleFields.get(1).get().toLowerCase().equals(UNDONE_STRING)) {
+        String newMarkStatus = preambleWords[preambleWords.length - 1].toLowerCase();
+        if (!newMarkStatus.equals(DONE_STRING) && !newMarkStatus.equals(UNDONE_STRING)) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
         }
 
-        return new MarkCommand(index.get(), preambleFields.get(1).get().toLowerCase());
+        return new MarkCommand(indices.get(), newMarkStatus);
     }
 }
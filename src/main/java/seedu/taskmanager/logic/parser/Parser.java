@@ -22,6 +22,7 @@ import seedu.taskmanager.logic.commands.ListCommand;
 import seedu.taskmanager.logic.commands.MarkCommand;
 import seedu.taskmanager.logic.commands.RedoCommand;
 import seedu.taskmanager.logic.commands.SetNotificationCommand;
+import seedu.taskmanager.logic.commands.SortCommand;
 import seedu.taskmanager.logic.commands.UndoCommand;
 
 /**
@@ -90,6 +91,9 @@ public class Parser {
         case SetNotificationCommand.COMMAND_WORD:
             return new SetNotificationCommandParser().parse(arguments);
 
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
         default:
             return new IncorrectCommand(MESSAGE_UNKNOWN_COMMAND);
         }
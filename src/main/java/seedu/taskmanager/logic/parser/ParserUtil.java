@@ -1,6 +1,7 @@
 
 package seedu.taskmanager.logic.parser;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -8,6 +9,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -24,7 +27,11 @@ import seedu.taskmanager.model.task.TaskDate;
  */
 public class ParserUtil {
 
+    /** The most indices a single command can refer to, so that a mistyped range cannot exhaust memory. */
+    public static final int MAX_INDEX_COUNT = 100000;
+
     private static final Pattern INDEX_ARGS_FORMAT = Pattern.compile("(?<targetIndex>.+)");
+    private static final Pattern INDEX_RANGE_FORMAT = Pattern.compile("(?<first>\\d+)-(?<last>\\d+)");
 
     /**
      * Returns the specified index in the {@code command} if it is a positive unsigned integer Returns an
@@ -40,8 +47,49 @@ public class ParserUtil {
         if (!StringUtil.isUnsignedInteger(index)) {
             return Optional.empty();
         }
-        return Optional.of(Integer.parseInt(index));
+        try {
+            return Optional.of(Integer.parseInt(index));
+        } catch (NumberFormatException nfe) {
+            return Optional.empty();
+        }
+
+    }
 
+    /**
+     * Returns the indices in {@code indices}, in increasing order and without repeats, if it is a list of positive
+     * integers and ranges of them such as {@code 1-5 8 10-12}, separated by spaces or commas. Returns an
+     * {@code Optional.empty()} otherwise, or if there are more than {@link #MAX_INDEX_COUNT} indices.
+     */
+    public static Optional<List<Integer>> parseIndices(String indices) {
+        String trimmedIndices = indices.trim();
+        if (trimmedIndices.isEmpty()) {
+            return Optional.empty();
+        }
+        SortedSet<Integer> parsedIndices = new TreeSet<>();
+        for (String token : trimmedIndices.split("[\\s,]+")) {
+            Matcher rangeMatcher = INDEX_RANGE_FORMAT.matcher(token);
+            Optional<Integer> first;
+            Optional<Integer> last;
+            if (rangeMatcher.matches()) {
+                first = parseIndex(rangeMatcher.group("first"));
+                last = parseIndex(rangeMatcher.group("last"));
+            } else {
+                first = parseIndex(token);
+                last = first;
+            }
+            if (!first.isPresent() || !last.isPresent() || first.get() > last.get()
+                    || last.get() - first.get() >= MAX_INDEX_COUNT) {
+                return Optional.empty();
+            }
+            // a long counter, as an int one would wrap around rather than pass a last index of Integer.MAX_VALUE
+            for (long index = first.get(); index <= last.get(); index++) {
+                parsedIndices.add((int) index);
+            }
+            if (parsedIndices.size() > MAX_INDEX_COUNT) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new ArrayList<>(parsedIndices));
     }
 
     /**
@@ -45,7 +45,7 @@ public class SetNotificationCommandParser {
             return new IncorrectCommand(ive.getMessage());
         }
 
-        if (date.getTaskDate().before(currentDate.getTaskDate())) {
+        if (date.isBefore(currentDate)) {
             return new IncorrectCommand(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetNotificationCommand.MESSAGE_USAGE));
         }
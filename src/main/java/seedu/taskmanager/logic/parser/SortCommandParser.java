@@ -0,0 +1,30 @@
+package seedu.taskmanager.logic.parser;
+
+import static seedu.taskmanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.taskmanager.logic.commands.Command;
+import seedu.taskmanager.logic.commands.IncorrectCommand;
+import seedu.taskmanager.logic.commands.SortCommand;
+import seedu.taskmanager.model.TaskSortOrder;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser {
+
+    /**
+     * Parses the given argument in the context of the SortCommand and returns a SortCommand object for execution.
+     */
+    public Command parse(String arg) {
+        String modifiedArg = arg.trim();
+        if (modifiedArg.isEmpty()) {
+            return new SortCommand(TaskSortOrder.NONE);
+        }
+
+        TaskSortOrder sortOrder = TaskSortOrder.fromKeyword(modifiedArg);
+        if (sortOrder == null || sortOrder == TaskSortOrder.NONE) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        return new SortCommand(sortOrder);
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.taskmanager.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.taskmanager.commons.core.UnmodifiableObservableList;
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.TaskDate;
+
+/**
+ * An immutable, compact copy of a task manager for very large task lists. Instead of one object graph per task, the
+ * tasks are stored column by column in parallel arrays: dates as epoch milliseconds, flags in a bit set, names as
+ * indices into a pool of distinct names, and tags as indices into a shared tag table. The tasks in
+ * {@link #getTaskList()} are flyweights that read these columns, and their names, dates and tags are created on each
+ * call.
+ */
+public final class ColumnarTaskManager implements ReadOnlyTaskManager {
+
+    private static final int HAS_START_DATE = 0;
+    private static final int HAS_END_DATE = 1;
+    private static final int START_DATE_HAS_TIME = 2;
+    private static final int END_DATE_HAS_TIME = 3;
+    private static final int IS_DONE = 4;
+    private static final int IS_DUE_SOON = 5;
+    private static final int FLAG_COUNT = 6;
+
+    private final int size;
+    private final long[] startDates;
+    private final long[] endDates;
+    private final BitSet flags;
+    private final int[] nameIds;
+    private final String[] namePool;
+
+    /** The tags of task {@code i} are {@code tagTable[tagIds[j]]} for {@code tagOffsets[i] <= j < tagOffsets[i+1]}. */
+    private final int[] tagOffsets;
+    private final int[] tagIds;
+    private final Tag[] tagTable;
+
+    private final ObservableList<ReadOnlyTask> taskList;
+
+    /**
+     * Creates a ColumnarTaskManager holding the tasks and tags in {@code toBeCopied}.
+     */
+    public ColumnarTaskManager(ReadOnlyTaskManager toBeCopied) {
+        List<ReadOnlyTask> tasks = toBeCopied.getTaskList();
+        size = tasks.size();
+        startDates = new long[size];
+        endDates = new long[size];
+        flags = new BitSet(size * FLAG_COUNT);
+        nameIds = new int[size];
+        tagOffsets = new int[size + 1];
+
+        Map<String, Integer> nameIdsByName = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        Map<Tag, Integer> tagIdsByTag = new HashMap<>();
+        List<Tag> tags = new ArrayList<>();
+        toBeCopied.getTagList().forEach(tag -> getTagId(tag, tagIdsByTag, tags));
+        int[] allTagIds = new int[size];
+        int tagCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            ReadOnlyTask task = tasks.get(i);
+            nameIds[i] = nameIdsByName.computeIfAbsent(task.getName().fullName, name -> addName(name, names));
+            if (task.hasStartDate()) {
+                startDates[i] = task.getStartDate().getTime();
+                setFlag(i, HAS_START_DATE, true);
+                setFlag(i, START_DATE_HAS_TIME, task.getStartDate().hasTime());
+            }
+            if (task.hasEndDate()) {
+                endDates[i] = task.getEndDate().getTime();
+                setFlag(i, HAS_END_DATE, true);
+                setFlag(i, END_DATE_HAS_TIME, task.getEndDate().hasTime());
+            }
+            setFlag(i, IS_DONE, task.isDone());
+            setFlag(i, IS_DUE_SOON, task.isDueSoon());
+
+            for (Tag tag : task.getTagSet()) {
+                if (tagCount == allTagIds.length) {
+                    allTagIds = Arrays.copyOf(allTagIds, allTagIds.length * 2);
+                }
+                allTagIds[tagCount++] = getTagId(tag, tagIdsByTag, tags);
+            }
+            tagOffsets[i + 1] = tagCount;
+        }
+
+        namePool = names.toArray(new String[names.size()]);
+        tagIds = Arrays.copyOf(allTagIds, tagCount);
+        tagTable = tags.toArray(new Tag[tags.size()]);
+        taskList = new UnmodifiableObservableList<>(FXCollections.observableList(new TaskView()));
+    }
+
+    private static int addName(String name, List<String> names) {
+        names.add(name);
+        return names.size() - 1;
+    }
+
+    private static int getTagId(Tag tag, Map<Tag, Integer> tagIdsByTag, List<Tag> tags) {
+        return tagIdsByTag.computeIfAbsent(tag, newTag -> {
+            tags.add(newTag);
+            return tags.size() - 1;
+        });
+    }
+
+    private void setFlag(int index, int flag, boolean value) {
+        flags.set(index * FLAG_COUNT + flag, value);
+    }
+
+    private boolean getFlag(int index, int flag) {
+        return flags.get(index * FLAG_COUNT + flag);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an unmodifiable view of the tasks, which are created as they are accessed.
+     */
+    @Override
+    public ObservableList<ReadOnlyTask> getTaskList() {
+        return taskList;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return new UnmodifiableObservableList<>(FXCollections.observableArrayList(tagTable));
+    }
+
+    @Override
+    public String toString() {
+        return size + " tasks, " + tagTable.length + " tags";
+    }
+
+    /**
+     * The tasks of this task manager as a list, each task being a flyweight over its row.
+     */
+    private class TaskView extends AbstractList<ReadOnlyTask> {
+        @Override
+        public ReadOnlyTask get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return new TaskRow(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class TaskRow implements ReadOnlyTask {
+        private final int index;
+
+        TaskRow(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Name getName() {
+            try {
+                return new Name(namePool[nameIds[index]]);
+            } catch (IllegalValueException e) {
+                throw new AssertionError("stored names are valid", e);
+            }
+        }
+
+        @Override
+        public TaskDate getStartDate() {
+            return hasStartDate() ? new TaskDate(startDates[index], getFlag(index, START_DATE_HAS_TIME)) : null;
+        }
+
+        @Override
+        public TaskDate getEndDate() {
+            return hasEndDate() ? new TaskDate(endDates[index], getFlag(index, END_DATE_HAS_TIME)) : null;
+        }
+
+        @Override
+        public boolean hasStartDate() {
+            return getFlag(index, HAS_START_DATE);
+        }
+
+        @Override
+        public boolean hasEndDate() {
+            return getFlag(index, HAS_END_DATE);
+        }
+
+        @Override
+        public boolean isFloating() {
+            return !hasStartDate() && !hasEndDate();
+        }
+
+        @Override
+        public boolean isDeadline() {
+            return !hasStartDate() && hasEndDate();
+        }
+
+        @Override
+        public boolean isEvent() {
+            return hasStartDate() && hasEndDate();
+        }
+
+        @Override
+        public boolean isDone() {
+            return getFlag(index, IS_DONE);
+        }
+
+        @Override
+        public boolean isDueSoon() {
+            return getFlag(index, IS_DUE_SOON);
+        }
+
+        @Override
+        public Set<Tag> getTagSet() {
+            Set<Tag> tags = new LinkedHashSet<>();
+            for (int i = tagOffsets[index]; i < tagOffsets[index + 1]; i++) {
+                tags.add(tagTable[tagIds[i]]);
+            }
+            return Collections.unmodifiableSet(tags);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ReadOnlyTask // instanceof handles nulls
+                            && this.isSameStateAs((ReadOnlyTask) other));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getName(), getStartDate(), getEndDate());
+        }
+
+        @Override
+        public String toString() {
+            return getAsText();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.taskmanager.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+
+/**
+ * Works out the due-soon status of the tasks of a task manager as time passes. An undone task is due soon once its
+ * earliest date is less than the notification window away. Tasks that are not yet due soon wait in a priority queue
+ * ordered by the time they become due soon, so each {@link #tick()} only visits the tasks whose status changes.
+ * Removed tasks are dropped from the queue lazily.
+ * <p>
+ * Tasks are shared with the undo history, so the scheduler never sets their status itself: the task manager holding
+ * them replaces the tasks whose status {@link #tick()} reports as changed.
+ */
+class DueSoonScheduler {
+
+    /** The queue is compacted once it holds more than this many removed tasks for every waiting task. */
+    private static final int STALE_ENTRY_RATIO = 2;
+
+    private final LongSupplier clock;
+    private final PriorityQueue<ScheduledTask> queue = new PriorityQueue<>();
+    /** The tasks that are not due soon yet but will be, each of which has an entry in {@link #queue}. */
+    private final Set<Task> waitingTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long windowMillis;
+
+    DueSoonScheduler() {
+        this(System::currentTimeMillis);
+    }
+
+    DueSoonScheduler(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns whether {@code task} is due soon at the current time.
+     */
+    public boolean isDueSoon(ReadOnlyTask task) {
+        return !task.isDone() && !task.isFloating() && getDueSoonTime(task) < clock.getAsLong();
+    }
+
+    /**
+     * Schedules {@code task} to be reported by {@link #tick()} once it becomes due soon, if it is an undone task with
+     * dates that is not marked as due soon yet.
+     */
+    public void add(Task task) {
+        if (task.isDone() || task.isFloating() || task.isDueSoon()) {
+            return;
+        }
+        waitingTasks.add(task);
+        queue.add(new ScheduledTask(getDueSoonTime(task), task));
+    }
+
+    public void remove(Task task) {
+        waitingTasks.remove(task);
+        if (queue.size() > STALE_ENTRY_RATIO * waitingTasks.size() + STALE_ENTRY_RATIO) {
+            queue.removeIf(entry -> !waitingTasks.contains(entry.task));
+        }
+    }
+
+    public void clear() {
+        waitingTasks.clear();
+        queue.clear();
+    }
+
+    /**
+     * Sets how long before its earliest date a task becomes due soon. The tasks must then be added again, since the
+     * status of any of them may have changed.
+     */
+    public void setWindow(long windowMillis) {
+        this.windowMillis = windowMillis;
+        clear();
+    }
+
+    /**
+     * Returns the waiting tasks that have become due soon since the last tick, and stops waiting for them.
+     */
+    public List<Task> tick() {
+        long now = clock.getAsLong();
+        List<Task> newlyDueSoon = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().dueSoonTime < now) {
+            Task task = queue.poll().task;
+            if (waitingTasks.remove(task)) {
+                newlyDueSoon.add(task);
+            }
+        }
+        return newlyDueSoon;
+    }
+
+    /**
+     * Returns the time at which the next waiting task becomes due soon, or {@code Long.MAX_VALUE} if no task is
+     * waiting.
+     */
+    public long getNextDueSoonTime() {
+        return queue.isEmpty() ? Long.MAX_VALUE : queue.peek().dueSoonTime;
+    }
+
+    private long getDueSoonTime(ReadOnlyTask task) {
+        return getEarliestTime(task) - windowMillis;
+    }
+
+    private static long getEarliestTime(ReadOnlyTask task) {
+        if (!task.hasStartDate()) {
+            return task.getEndDate().getTime();
+        }
+        if (!task.hasEndDate()) {
+            return task.getStartDate().getTime();
+        }
+        return Math.min(task.getStartDate().getTime(), task.getEndDate().getTime());
+    }
+
+    private static class ScheduledTask implements Comparable<ScheduledTask> {
+        private final long dueSoonTime;
+        private final Task task;
+
+        ScheduledTask(long dueSoonTime, Task task) {
+            this.dueSoonTime = dueSoonTime;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(ScheduledTask other) {
+            return Long.compare(dueSoonTime, other.dueSoonTime);
+        }
+    }
+}
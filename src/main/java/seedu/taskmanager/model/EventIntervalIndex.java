@@ -0,0 +1,91 @@
+package seedu.taskmanager.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/**
+ * A sorted interval index over the undone events of a task manager. Events are bucketed by start time, and the
+ * durations of all indexed events are tracked so that an overlap query only has to visit events that start within
+ * the longest indexed duration before the queried range. Lookups take O(log n + k), where k is the number of such
+ * candidate events.
+ */
+class EventIntervalIndex {
+
+    private final TreeMap<Long, List<ReadOnlyTask>> eventsByStartTime = new TreeMap<>();
+    private final TreeMap<Long, Integer> durationCounts = new TreeMap<>();
+
+    /**
+     * Adds {@code task} to the index if it is an undone event. Other tasks are ignored.
+     */
+    public void add(ReadOnlyTask task) {
+        if (!isIndexed(task)) {
+            return;
+        }
+        eventsByStartTime.computeIfAbsent(getStartTime(task), startTime -> new ArrayList<>()).add(task);
+        durationCounts.merge(getDuration(task), 1, Integer::sum);
+    }
+
+    /**
+     * Removes the event equivalent to {@code task} from the index, if present.
+     */
+    public void remove(ReadOnlyTask task) {
+        if (!isIndexed(task)) {
+            return;
+        }
+        List<ReadOnlyTask> sameStartEvents = eventsByStartTime.get(getStartTime(task));
+        if (sameStartEvents == null || !sameStartEvents.removeIf(task::isSameStateAs)) {
+            return;
+        }
+        if (sameStartEvents.isEmpty()) {
+            eventsByStartTime.remove(getStartTime(task));
+        }
+        durationCounts.computeIfPresent(getDuration(task), (duration, count) -> count > 1 ? count - 1 : null);
+    }
+
+    public void clear() {
+        eventsByStartTime.clear();
+        durationCounts.clear();
+    }
+
+    /**
+     * Returns all indexed events overlapping the time range from {@code startTime} to {@code endTime}, both inclusive,
+     * in order of their start times.
+     */
+    public List<ReadOnlyTask> getOverlapping(long startTime, long endTime) {
+        List<ReadOnlyTask> overlappingEvents = new ArrayList<>();
+        if (durationCounts.isEmpty()) {
+            return overlappingEvents;
+        }
+
+        long earliestCandidateStart = startTime - durationCounts.lastKey();
+        for (Map.Entry<Long, List<ReadOnlyTask>> entry
+                : eventsByStartTime.subMap(earliestCandidateStart, true, endTime, true).entrySet()) {
+            for (ReadOnlyTask event : entry.getValue()) {
+                if (getEndTime(event) >= startTime) {
+                    overlappingEvents.add(event);
+                }
+            }
+        }
+        return overlappingEvents;
+    }
+
+    private static boolean isIndexed(ReadOnlyTask task) {
+        return task.isEvent() && !task.isDone();
+    }
+
+    private static long getStartTime(ReadOnlyTask event) {
+        return event.getStartDate().getTime();
+    }
+
+    private static long getEndTime(ReadOnlyTask event) {
+        return event.getEndDate().getTime();
+    }
+
+    private static long getDuration(ReadOnlyTask event) {
+        return getEndTime(event) - getStartTime(event);
+    }
+}
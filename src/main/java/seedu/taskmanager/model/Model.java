@@ -1,11 +1,13 @@
 
 package seedu.taskmanager.model;
 
+import java.util.List;
 import java.util.Set;
 
 import seedu.taskmanager.commons.core.UnmodifiableObservableList;
 import seedu.taskmanager.model.task.ReadOnlyTask;
 import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
 import seedu.taskmanager.model.task.UniqueTaskList;
 import seedu.taskmanager.model.task.UniqueTaskList.DuplicateTaskException;
 
@@ -21,12 +23,39 @@ public interface Model {
     /** Returns the TaskManager */
     ReadOnlyTaskManager getTaskManager();
 
+    /**
+     * Returns an immutable copy of the task manager as of the latest completed change. Unlike
+     * {@link #getTaskManager()}, this may be called from any thread, and does not block.
+     */
+    ReadOnlyTaskManager getTaskManagerSnapshot();
+
     /** Deletes the given task. */
     void deleteTask(ReadOnlyTask target) throws UniqueTaskList.TaskNotFoundException;
 
     /** Adds the given task */
     void addTask(Task task) throws UniqueTaskList.DuplicateTaskException;
 
+    /**
+     * Adds all of {@code tasks} as one change, or none of them if any is a duplicate.
+     */
+    void addTasks(List<Task> tasks) throws UniqueTaskList.DuplicateTaskException;
+
+    /**
+     * Deletes all of {@code targets} as one change, or none of them if any cannot be found.
+     */
+    void deleteTasks(List<? extends ReadOnlyTask> targets) throws UniqueTaskList.TaskNotFoundException;
+
+    /**
+     * Makes every change in {@code mutations} in order as one change to the task manager, raising a single change
+     * event. If any change fails, none of them are made.
+     * @throws DuplicateTaskException
+     *         if a change would make a task equivalent to another existing task in the list.
+     * @throws UniqueTaskList.TaskNotFoundException
+     *         if a task to change cannot be found.
+     */
+    void applyBatch(List<TaskMutation> mutations)
+            throws UniqueTaskList.DuplicateTaskException, UniqueTaskList.TaskNotFoundException;
+
     /**
      * Updates the task located at {@code filteredTaskListIndex} with {@code editedTask}.
      * @throws DuplicateTaskException
@@ -36,6 +65,11 @@ public interface Model {
      */
     void updateTask(int filteredTaskListIndex, ReadOnlyTask editedTask) throws UniqueTaskList.DuplicateTaskException;
 
+    /**
+     * Returns the undone events that overlap the period from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    List<ReadOnlyTask> getEventsOverlapping(TaskDate startDate, TaskDate endDate);
+
     // @@author A0140417R
     void loadPreviousState() throws ArrayIndexOutOfBoundsException;
 
@@ -52,11 +86,27 @@ public interface Model {
     void setNotification(String duration);
     // @@author
 
+    /**
+     * Marks the tasks that have become due soon as time passed, raising one event for all of them if there are any.
+     */
+    void updateDueSoonStatus();
+
+    /**
+     * Returns the time in epoch milliseconds at which the next task becomes due soon, or {@code Long.MAX_VALUE} if
+     * there is no such task.
+     */
+    long getNextDueSoonTime();
+
     /**
      * Returns the filtered task list as an {@code UnmodifiableObservableList<ReadOnlyTask>}
      */
     UnmodifiableObservableList<ReadOnlyTask> getFilteredTaskList();
 
+    /**
+     * Sorts the filtered task list in {@code sortOrder}, which stays in effect as the list changes.
+     */
+    void sortFilteredTaskList(TaskSortOrder sortOrder);
+
     /** Updates the filter of the filtered task list to show all tasks */
     void updateFilteredListToShowAll();
 
@@ -65,6 +115,17 @@ public interface Model {
      */
     void updateFilteredTaskListByTaskName(Set<String> keywords);
 
+    /**
+     * Updates the filter of the filtered task list to show tasks whose names contain every keyword of at least one of
+     * the given keyword groups
+     */
+    void updateFilteredTaskListByTaskNameGroups(List<Set<String>> keywordGroups);
+
+    /**
+     * Updates the filter of the filtered task list to show the tasks matching {@code query}
+     */
+    void updateFilteredTaskList(TaskQuery query);
+
     /**
      * Updates the filter of the filtered task list to filter by the given task type or date
      */
@@ -7,28 +7,44 @@ import static seedu.taskmanager.commons.util.CommonStringUtil.EVENT_STRING;
 import static seedu.taskmanager.commons.util.CommonStringUtil.FLOATING_TASK_STRING;
 import static seedu.taskmanager.commons.util.CommonStringUtil.UNDONE_STRING;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.transformation.FilteredList;
 import seedu.taskmanager.commons.core.ComponentManager;
+import seedu.taskmanager.commons.core.Config;
+import seedu.taskmanager.commons.core.Config.UndoEngine;
 import seedu.taskmanager.commons.core.LogsCenter;
 import seedu.taskmanager.commons.core.UnmodifiableObservableList;
+import seedu.taskmanager.commons.events.model.DueSoonStatusChangedEvent;
 import seedu.taskmanager.commons.events.model.FilePathChangedEvent;
 import seedu.taskmanager.commons.events.model.TaskManagerChangedEvent;
 import seedu.taskmanager.commons.events.model.TaskUpdatedEvent;
 import seedu.taskmanager.commons.exceptions.IllegalValueException;
 import seedu.taskmanager.commons.util.CollectionUtil;
-import seedu.taskmanager.commons.util.StringUtil;
 import seedu.taskmanager.logic.parser.DateTimeUtil;
 import seedu.taskmanager.model.task.ReadOnlyTask;
 import seedu.taskmanager.model.task.Task;
 import seedu.taskmanager.model.task.TaskDate;
 import seedu.taskmanager.model.task.UniqueTaskList;
+import seedu.taskmanager.model.task.UniqueTaskList.DuplicateTaskException;
 import seedu.taskmanager.model.task.UniqueTaskList.TaskNotFoundException;
 
 /**
- * Represents the in-memory model of the task manager data. All changes to any model should be synchronized.
+ * Represents the in-memory model of the task manager data.
+ * <p>
+ * Concurrency: changes to the task manager and the undo history are made under the write lock of a readers-writer
+ * lock, and the task manager publishes an immutable {@link TaskManagerSnapshot} once each change is complete. Any
+ * thread may read that snapshot through {@link #getTaskManagerSnapshot()} or from a {@link TaskManagerChangedEvent}
+ * without locking, and never sees a change half made, or use the queries that take the read lock. The live task
+ * manager and the filtered task list are not thread-safe, and belong to the thread issuing commands, usually the
+ * JavaFX application thread. Events are raised after the lock is released.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -38,14 +54,27 @@ public class ModelManager extends ComponentManager implements Model {
     private final TaskManager taskManager;
     private final TaskNotifier taskNotifier;
     private final FilteredList<ReadOnlyTask> filteredTasks;
+    private final SortedTaskView sortedTasks;
     private final TaskManagerStateManager stateManager;
+    private final UndoEngine undoEngine;
+    private TaskQuery activeQuery;
+    /** Guards {@link #taskManager} and {@link #stateManager}. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     /**
-     * Initializes a ModelManager with the given taskManager and userPrefs.
+     * Initializes a ModelManager with the given taskManager and userPrefs, keeping undo history as set in a default
+     * config.
      */
     public ModelManager(ReadOnlyTaskManager taskManager, UserPrefs userPrefs) {
+        this(taskManager, userPrefs, new Config());
+    }
+
+    /**
+     * Initializes a ModelManager with the given taskManager and userPrefs, keeping undo history as set in config.
+     */
+    public ModelManager(ReadOnlyTaskManager taskManager, UserPrefs userPrefs, Config config) {
         super();
-        assert !CollectionUtil.isAnyNull(taskManager, userPrefs);
+        assert !CollectionUtil.isAnyNull(taskManager, userPrefs, config);
 
         logger.fine("Initializing with task manager: " + taskManager + " and user prefs " + userPrefs);
 
@@ -53,11 +82,17 @@ public class ModelManager extends ComponentManager implements Model {
         this.taskNotifier = new TaskNotifierManager(userPrefs);
         // @@author
         this.taskManager = new TaskManager(taskManager);
+        this.taskManager.setDueSoonWindow(taskNotifier.getNotificationWindow());
         filteredTasks = new FilteredList<>(this.taskManager.getTaskList());
-        TaskManagerState initState = new TaskManagerState(taskManager, STRING_INITIAL);
+        sortedTasks = new SortedTaskView(filteredTasks);
+        TaskManagerState initState = new TaskManagerState(this.taskManager.getSnapshot(), STRING_INITIAL);
         // @@author A0140417R
-        this.stateManager = new TaskManagerStateManager(initState);
+        this.stateManager = new TaskManagerStateManager(initState, config.getUndoHistoryLimit());
         // @@author
+        this.undoEngine = config.getUndoEngine();
+        if (undoEngine == UndoEngine.JOURNAL) {
+            this.taskManager.setDeltaRecorder(stateManager::recordDelta);
+        }
     }
 
     public ModelManager() {
@@ -66,7 +101,13 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyTaskManager newData) {
-        taskManager.resetData(newData);
+        lock.writeLock().lock();
+        try {
+            taskManager.resetData(newData);
+            refreshFilteredTaskList();
+        } finally {
+            lock.writeLock().unlock();
+        }
         indicateTaskManagerChanged();
     }
 
@@ -75,9 +116,14 @@ public class ModelManager extends ComponentManager implements Model {
         return taskManager;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public ReadOnlyTaskManager getTaskManagerSnapshot() {
+        return taskManager.getCommittedSnapshot();
+    }
+
+    /** Raises an event carrying the state after the latest change to indicate the model has changed */
     private void indicateTaskManagerChanged() {
-        raise(new TaskManagerChangedEvent(taskManager));
+        raise(new TaskManagerChangedEvent(taskManager.getCommittedSnapshot()));
     }
 
     // @@author A0140417R
@@ -88,18 +134,28 @@ public class ModelManager extends ComponentManager implements Model {
     // @@author
 
     @Override
-    public synchronized void deleteTask(ReadOnlyTask target) throws TaskNotFoundException {
-        taskManager.removeTask(target);
+    public void deleteTask(ReadOnlyTask target) throws TaskNotFoundException {
+        lock.writeLock().lock();
+        try {
+            taskManager.removeTask(target);
+        } finally {
+            lock.writeLock().unlock();
+        }
         indicateTaskManagerChanged();
     }
 
     @Override
-    public synchronized void addTask(Task task) throws UniqueTaskList.DuplicateTaskException {
-        taskManager.addTask(task);
-        updateFilteredListToShowAll();
+    public void addTask(Task task) throws UniqueTaskList.DuplicateTaskException {
+        lock.writeLock().lock();
+        try {
+            taskManager.addTask(task);
+            updateFilteredListToShowAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
         indicateTaskManagerChanged();
         int lastIndex = filteredTasks.size() - 1;
-        indicateTaskChanged(lastIndex);
+        indicateTaskChanged(sortedTasks.getViewIndex(lastIndex));
     }
 
     @Override
@@ -107,29 +163,143 @@ public class ModelManager extends ComponentManager implements Model {
             throws UniqueTaskList.DuplicateTaskException {
         assert editedTask != null;
 
-        int taskManagerIndex = filteredTasks.getSourceIndex(filteredTaskListIndex);
-        taskManager.updateTask(taskManagerIndex, editedTask);
-        updateFilteredListToShowAll();
+        int taskManagerIndex = filteredTasks.getSourceIndex(sortedTasks.getSourceIndex(filteredTaskListIndex));
+        lock.writeLock().lock();
+        try {
+            taskManager.updateTask(taskManagerIndex, editedTask);
+            updateFilteredListToShowAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
         indicateTaskManagerChanged();
-        indicateTaskChanged(taskManagerIndex);
+        indicateTaskChanged(sortedTasks.getViewIndex(taskManagerIndex));
+    }
+
+    @Override
+    public void addTasks(List<Task> tasks) throws DuplicateTaskException {
+        try {
+            applyBatch(tasks.stream().map(TaskMutation::add).collect(Collectors.toList()));
+        } catch (TaskNotFoundException e) {
+            assert false : "Adding tasks should not need any task to be found";
+        }
+    }
+
+    @Override
+    public void deleteTasks(List<? extends ReadOnlyTask> targets) throws TaskNotFoundException {
+        try {
+            applyBatch(targets.stream().map(TaskMutation::delete).collect(Collectors.toList()));
+        } catch (DuplicateTaskException e) {
+            assert false : "Deleting tasks should not create duplicates";
+        }
+    }
+
+    @Override
+    public void applyBatch(List<TaskMutation> mutations) throws DuplicateTaskException, TaskNotFoundException {
+        assert mutations != null;
+        if (mutations.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            taskManager.applyBatch(mutations);
+            refreshFilteredTaskList();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        indicateTaskManagerChanged();
+        logger.fine("Applied a batch of " + mutations.size() + " changes");
+    }
+
+    @Override
+    public List<ReadOnlyTask> getEventsOverlapping(TaskDate startDate, TaskDate endDate) {
+        lock.readLock().lock();
+        try {
+            return taskManager.getEventsOverlapping(startDate, endDate);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     // @@author A0140417R
     @Override
     public void loadPreviousState() throws IndexOutOfBoundsException {
-        taskManager.resetData(stateManager.getPreviousState().getTaskManager());
+        lock.writeLock().lock();
+        try {
+            if (undoEngine == UndoEngine.JOURNAL) {
+                TaskManagerState undoneState = stateManager.getCurrentState();
+                stateManager.getPreviousState();
+                taskManager.beginChange();
+                try {
+                    revertDeltas(stateManager.takePendingDeltas());
+                    revertDeltas(undoneState.getDeltas());
+                } finally {
+                    taskManager.endChange();
+                }
+            } else {
+                taskManager.restoreSnapshot(stateManager.getPreviousState().getTaskManager());
+            }
+            refreshFilteredTaskList();
+        } finally {
+            lock.writeLock().unlock();
+        }
         indicateTaskManagerChanged();
     }
 
     @Override
     public void loadNextState() throws IndexOutOfBoundsException {
-        taskManager.resetData(stateManager.getNextState().getTaskManager());
+        lock.writeLock().lock();
+        try {
+            if (undoEngine == UndoEngine.JOURNAL) {
+                TaskManagerState redoneState = stateManager.getNextState();
+                taskManager.beginChange();
+                try {
+                    revertDeltas(stateManager.takePendingDeltas());
+                    redoneState.getDeltas().forEach(delta -> delta.apply(taskManager));
+                } finally {
+                    taskManager.endChange();
+                }
+            } else {
+                taskManager.restoreSnapshot(stateManager.getNextState().getTaskManager());
+            }
+            refreshFilteredTaskList();
+        } finally {
+            lock.writeLock().unlock();
+        }
         indicateTaskManagerChanged();
     }
 
     @Override
     public void saveState(String commandString) {
-        stateManager.addState(new TaskManagerState(taskManager, commandString));
+        lock.writeLock().lock();
+        try {
+            if (undoEngine == UndoEngine.JOURNAL) {
+                stateManager.addPendingDeltasAsState(commandString);
+            } else {
+                stateManager.addState(new TaskManagerState(taskManager.getSnapshot(), commandString));
+            }
+            logUndoHistoryUsage();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Logs the size of the undo history, for tuning the undo history limit */
+    private void logUndoHistoryUsage() {
+        if (!logger.isLoggable(Level.FINE)) {
+            return;
+        }
+        logger.fine("Undo history: " + stateManager.getUndoDepth() + " undoable, " + stateManager.getRedoDepth()
+                + " redoable, " + stateManager.getEvictedStateCount() + " evicted, " + stateManager.getDeltaCount()
+                + " deltas kept");
+    }
+
+    /**
+     * Reverts {@code deltas}, which were made in order, on the task manager, starting from the latest.
+     */
+    private void revertDeltas(List<TaskManagerDelta> deltas) {
+        for (int i = deltas.size() - 1; i >= 0; i--) {
+            deltas.get(i).revert(taskManager);
+        }
     }
 
     @Override
@@ -141,171 +311,149 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void setNotification(String duration) {
         taskNotifier.setNotification(duration);
+        List<ReadOnlyTask> changed;
+        lock.writeLock().lock();
+        try {
+            changed = taskManager.setDueSoonWindow(taskNotifier.getNotificationWindow());
+            if (!changed.isEmpty()) {
+                refreshFilteredTaskList();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!changed.isEmpty()) {
+            raise(new DueSoonStatusChangedEvent(changed));
+        }
     }
     // @@author
 
+    @Override
+    public void updateDueSoonStatus() {
+        List<ReadOnlyTask> newlyDueSoon;
+        lock.writeLock().lock();
+        try {
+            newlyDueSoon = taskManager.updateDueSoonStatus();
+            if (!newlyDueSoon.isEmpty()) {
+                refreshFilteredTaskList();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!newlyDueSoon.isEmpty()) {
+            raise(new DueSoonStatusChangedEvent(newlyDueSoon));
+        }
+    }
+
+    @Override
+    public long getNextDueSoonTime() {
+        lock.readLock().lock();
+        try {
+            return taskManager.getNextDueSoonTime();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     // =========== Filtered Task List Accessors
     // =============================================================
 
     @Override
     public UnmodifiableObservableList<ReadOnlyTask> getFilteredTaskList() {
-        return new UnmodifiableObservableList<>(filteredTasks);
+        return new UnmodifiableObservableList<>(sortedTasks);
+    }
+
+    @Override
+    public void sortFilteredTaskList(TaskSortOrder sortOrder) {
+        assert sortOrder != null;
+        sortedTasks.setComparator(sortOrder.getComparator());
     }
 
     @Override
     public void updateFilteredListToShowAll() {
+        activeQuery = null;
         filteredTasks.setPredicate(null);
     }
 
     @Override
     public void updateFilteredTaskListByTaskName(Set<String> keywords) {
-        updateFilteredTaskList(new PredicateExpression(new NameQualifier(keywords)));
+        updateFilteredTaskListByTaskNameGroups(
+                keywords.stream().map(Collections::singleton).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void updateFilteredTaskListByTaskNameGroups(List<Set<String>> keywordGroups) {
+        updateFilteredTaskList(TaskQuery.withWords(keywordGroups));
     }
 
     // @@author A0140538J
     @Override
     public void updateFilteredTaskListByOneFilter(String filter) {
-        updateFilteredTaskList(new PredicateExpression(new OneFilterQualifier(filter)));
+        switch (filter) {
+        case FLOATING_TASK_STRING:
+        case DEADLINE_STRING:
+        case EVENT_STRING:
+        case DONE_STRING:
+        case UNDONE_STRING:
+            updateFilteredTaskList(TaskQuery.inCategory(filter));
+            break;
+        // For parsing date
+        default:
+            updateFilteredTaskList(createDateQuery(filter));
+        }
     }
 
     @Override
     public void updateFilteredTaskListByTaskTypeAndDate(String[] taskTypeAndDate) {
-        updateFilteredTaskList(new PredicateExpression(new TypeAndDateQualifier(taskTypeAndDate)));
-    }
-    // @@author
-
-    private void updateFilteredTaskList(Expression expression) {
-        filteredTasks.setPredicate(expression::satisfies);
-    }
-
-    // ========== Inner classes/interfaces used for filtering
-    // =================================================
-
-    interface Expression {
-        boolean satisfies(ReadOnlyTask task);
-
-        @Override
-        String toString();
-    }
-
-    private class PredicateExpression implements Expression {
-
-        private final Qualifier qualifier;
-
-        PredicateExpression(Qualifier qualifier) {
-            this.qualifier = qualifier;
-        }
-
-        @Override
-        public boolean satisfies(ReadOnlyTask task) {
-            return qualifier.run(task);
-        }
-
-        @Override
-        public String toString() {
-            return qualifier.toString();
+        switch (taskTypeAndDate[0]) {
+        case FLOATING_TASK_STRING:
+        case DEADLINE_STRING:
+        case EVENT_STRING:
+            updateFilteredTaskList(TaskQuery.inCategory(taskTypeAndDate[0]).and(createDateQuery(taskTypeAndDate[1])));
+            break;
+        default:
+            updateFilteredTaskList(TaskQuery.NONE);
         }
     }
+    // @@author
 
-    interface Qualifier {
-        boolean run(ReadOnlyTask task);
-
-        @Override
-        String toString();
+    @Override
+    public void updateFilteredTaskList(TaskQuery query) {
+        assert query != null;
+        activeQuery = query;
+        applyActiveQuery();
     }
 
-    private class NameQualifier implements Qualifier {
-        private Set<String> nameKeyWords;
-
-        NameQualifier(Set<String> nameKeyWords) {
-            this.nameKeyWords = nameKeyWords;
-        }
-
-        @Override
-        public boolean run(ReadOnlyTask task) {
-            return nameKeyWords.stream()
-                    .filter(keyword -> StringUtil.containsWordIgnoreCase(task.getName().fullName, keyword)).findAny()
-                    .isPresent();
-        }
-
-        @Override
-        public String toString() {
-            return "name=" + String.join(", ", nameKeyWords);
+    /**
+     * Runs the active query and shows its matches. Needed again whenever tasks are replaced rather than removed,
+     * since the matches are held by identity.
+     */
+    private void refreshFilteredTaskList() {
+        if (activeQuery != null) {
+            applyActiveQuery();
         }
     }
 
-    // @@author A0140538J
-    private class OneFilterQualifier implements Qualifier {
-        private String filter;
-
-        OneFilterQualifier(String filter) {
-            this.filter = filter;
-        }
-
-        @Override
-        public boolean run(ReadOnlyTask task) {
-            switch (filter) {
-            case FLOATING_TASK_STRING:
-                return task.isFloating();
-            case DEADLINE_STRING:
-                return task.isDeadline();
-            case EVENT_STRING:
-                return task.isEvent();
-            case DONE_STRING:
-                return task.isDone();
-            case UNDONE_STRING:
-                return !task.isDone();
-            // For parsing date
-            default:
-                try {
-                    String date =
-                            DateTimeUtil.getOnlyDateStringFromDate(DateTimeUtil.parseDateTime(filter).getTaskDate());
-                    return (task.getStartDate() != null
-                            && DateTimeUtil.getOnlyDateStringFromDate(task.getStartDate().getTaskDate()).equals(date)
-                            || (task.getEndDate() != null && DateTimeUtil
-                                    .getOnlyDateStringFromDate(task.getEndDate().getTaskDate()).equals(date)));
-
-                } catch (IllegalValueException ive) {
-                    // Deliberately empty as filter will not throw exception
-                    return false;
-                }
-            }
+    private void applyActiveQuery() {
+        Set<ReadOnlyTask> matches;
+        lock.readLock().lock();
+        try {
+            matches = activeQuery.execute(taskManager);
+        } finally {
+            lock.readLock().unlock();
         }
+        logger.fine("Query " + activeQuery + " matched " + matches.size() + " tasks");
+        filteredTasks.setPredicate(matches::contains);
     }
 
-    private class TypeAndDateQualifier implements Qualifier {
-        private String taskType;
-        private TaskDate date;
-
-        TypeAndDateQualifier(String[] taskTypeAndDate) {
-            taskType = taskTypeAndDate[0];
-
-            try {
-                date = DateTimeUtil.parseDateTime(taskTypeAndDate[1]);
-            } catch (IllegalValueException ive) {
-                // Deliberately empty as this date will not throw exception
-            }
-        }
-
-        @Override
-        public boolean run(ReadOnlyTask task) {
-
-            String dateString = DateTimeUtil.getOnlyDateStringFromDate(date.getTaskDate());
-            boolean dateFilter = (task.getStartDate() != null
-                    && DateTimeUtil.getOnlyDateStringFromDate(task.getStartDate().getTaskDate()).equals(dateString))
-                    || (task.getEndDate() != null && DateTimeUtil
-                            .getOnlyDateStringFromDate(task.getEndDate().getTaskDate()).equals(dateString));
-
-            switch (taskType) {
-            case FLOATING_TASK_STRING:
-                return task.isFloating() && dateFilter;
-            case DEADLINE_STRING:
-                return task.isDeadline() && dateFilter;
-            case EVENT_STRING:
-                return task.isEvent() && dateFilter;
-            default:
-                return false;
-            }
+    /**
+     * Parses {@code dateString} once and returns a query for the tasks starting or ending on that day, or a query
+     * matching nothing if {@code dateString} is not a valid date.
+     */
+    private static TaskQuery createDateQuery(String dateString) {
+        try {
+            return TaskQuery.onDay(DateTimeUtil.parseDateTime(dateString).getEpochDay());
+        } catch (IllegalValueException ive) {
+            return TaskQuery.NONE;
         }
     }
 }
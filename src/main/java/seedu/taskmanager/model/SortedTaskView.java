@@ -0,0 +1,289 @@
+package seedu.taskmanager.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/**
+ * A view of a task list sorted by a comparator, or in the source's order if there is none. The sorted tasks are kept
+ * in an order-statistic treap, so a task added to, removed from or updated in the source moves the view in O(log n)
+ * time, and the change is passed on to listeners as a single add or remove rather than a re-sort. Tasks that compare
+ * equal keep the order they were added to the view in. Tasks must not change in ways that affect their order while in
+ * the view.
+ */
+class SortedTaskView extends TransformationList<ReadOnlyTask, ReadOnlyTask> {
+
+    private static final Random random = new Random();
+
+    private Comparator<ReadOnlyTask> comparator;
+    private Node root;
+    private final Map<ReadOnlyTask, Node> nodes = new IdentityHashMap<>();
+    private long nextSequence;
+
+    SortedTaskView(ObservableList<? extends ReadOnlyTask> source) {
+        super(source);
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, or shows the source's order if it is null. Listeners see the change as a
+     * permutation.
+     */
+    public void setComparator(Comparator<ReadOnlyTask> comparator) {
+        Map<ReadOnlyTask, Integer> oldIndices = new IdentityHashMap<>();
+        for (int i = 0; i < size(); i++) {
+            oldIndices.put(get(i), i);
+        }
+
+        this.comparator = comparator;
+        root = null;
+        nodes.clear();
+        if (comparator != null) {
+            getSource().forEach(this::insert);
+        }
+
+        int[] permutation = new int[size()];
+        for (int i = 0; i < size(); i++) {
+            permutation[oldIndices.get(get(i))] = i;
+        }
+        beginChange();
+        nextPermutation(0, size(), permutation);
+        endChange();
+    }
+
+    @Override
+    public ReadOnlyTask get(int index) {
+        if (comparator == null) {
+            return getSource().get(index);
+        }
+        if (index < 0 || index >= sizeOf(root)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + sizeOf(root));
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.task;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    /**
+     * Returns the index of {@code o} in the view. Takes O(log n) time for a task in a sorted view.
+     */
+    @Override
+    public int indexOf(Object o) {
+        Node node = nodes.get(o);
+        return node == null ? super.indexOf(o) : rankOf(node);
+    }
+
+    /**
+     * Returns the source index of the task at {@code index} in the view. Takes O(n) time in a sorted view.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        return comparator == null ? index : getSource().indexOf(get(index));
+    }
+
+    public int getViewIndex(int sourceIndex) {
+        return comparator == null ? sourceIndex : indexOf(getSource().get(sourceIndex));
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends ReadOnlyTask> change) {
+        beginChange();
+        while (change.next()) {
+            if (comparator == null) {
+                passOn(change);
+            } else {
+                applyToTree(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on a change of the source unaltered, as the view shows the source's order.
+     */
+    private void passOn(Change<? extends ReadOnlyTask> change) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        if (change.wasPermutated()) {
+            int[] permutation = new int[to - from];
+            for (int i = from; i < to; i++) {
+                permutation[i - from] = change.getPermutation(i);
+            }
+            nextPermutation(from, to, permutation);
+        } else if (change.wasUpdated()) {
+            for (int i = from; i < to; i++) {
+                nextUpdate(i);
+            }
+        } else if (change.wasReplaced()) {
+            nextReplace(from, to, new ArrayList<>(change.getRemoved()));
+        } else if (change.wasRemoved()) {
+            nextRemove(from, new ArrayList<>(change.getRemoved()));
+        } else if (change.wasAdded()) {
+            nextAdd(from, to);
+        }
+    }
+
+    /**
+     * Moves the tasks removed from and added to the source out of and into the tree. The order of the source does not
+     * matter to a sorted view, so permutations are ignored.
+     */
+    private void applyToTree(Change<? extends ReadOnlyTask> change) {
+        if (change.wasPermutated()) {
+            return;
+        }
+        if (change.wasUpdated()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                nextUpdate(rankOf(nodes.get(getSource().get(i))));
+            }
+            return;
+        }
+        for (ReadOnlyTask removed : change.getRemoved()) {
+            nextRemove(remove(removed), removed);
+        }
+        for (ReadOnlyTask added : change.getAddedSubList()) {
+            int index = insert(added);
+            nextAdd(index, index + 1);
+        }
+    }
+
+    //// treap operations
+
+    /**
+     * Inserts {@code task} into the tree and returns its index.
+     */
+    private int insert(ReadOnlyTask task) {
+        Node node = new Node(task, nextSequence++, random.nextInt());
+        nodes.put(task, node);
+        Node[] beforeAndAfter = split(root, node);
+        int index = sizeOf(beforeAndAfter[0]);
+        root = merge(merge(beforeAndAfter[0], node), beforeAndAfter[1]);
+        return index;
+    }
+
+    /**
+     * Removes {@code task} from the tree and returns the index it had.
+     */
+    private int remove(ReadOnlyTask task) {
+        Node node = nodes.remove(task);
+        assert node != null : "Removed tasks must be in the view";
+        int index = rankOf(node);
+        root = removeFrom(root, node);
+        return index;
+    }
+
+    private Node removeFrom(Node subtree, Node node) {
+        if (subtree == node) {
+            return merge(node.left, node.right);
+        }
+        if (compare(node, subtree) < 0) {
+            subtree.left = removeFrom(subtree.left, node);
+        } else {
+            subtree.right = removeFrom(subtree.right, node);
+        }
+        subtree.updateSize();
+        return subtree;
+    }
+
+    private int rankOf(Node node) {
+        int rank = 0;
+        Node current = root;
+        while (current != node) {
+            if (compare(node, current) < 0) {
+                current = current.left;
+            } else {
+                rank += sizeOf(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return rank + sizeOf(node.left);
+    }
+
+    /**
+     * Splits {@code subtree} into the nodes ordered before {@code key} and the nodes ordered after it.
+     */
+    private Node[] split(Node subtree, Node key) {
+        if (subtree == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(subtree, key) < 0) {
+            Node[] parts = split(subtree.right, key);
+            subtree.right = parts[0];
+            subtree.updateSize();
+            return new Node[] {subtree, parts[1]};
+        } else {
+            Node[] parts = split(subtree.left, key);
+            subtree.left = parts[1];
+            subtree.updateSize();
+            return new Node[] {parts[0], subtree};
+        }
+    }
+
+    /**
+     * Joins two trees, with every node of {@code left} ordered before every node of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority >= right.priority) {
+            left.right = merge(left.right, right);
+            left.updateSize();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.updateSize();
+            return right;
+        }
+    }
+
+    private int compare(Node first, Node second) {
+        int result = comparator.compare(first.task, second.task);
+        return result != 0 ? result : Long.compare(first.sequence, second.sequence);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node {
+        private final ReadOnlyTask task;
+        private final long sequence;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        Node(ReadOnlyTask task, long sequence, int priority) {
+            this.task = task;
+            this.sequence = sequence;
+            this.priority = priority;
+        }
+
+        void updateSize() {
+            size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+}
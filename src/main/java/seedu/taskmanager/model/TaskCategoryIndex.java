@@ -0,0 +1,69 @@
+package seedu.taskmanager.model;
+
+import static seedu.taskmanager.commons.util.CommonStringUtil.DEADLINE_STRING;
+import static seedu.taskmanager.commons.util.CommonStringUtil.DONE_STRING;
+import static seedu.taskmanager.commons.util.CommonStringUtil.EVENT_STRING;
+import static seedu.taskmanager.commons.util.CommonStringUtil.FLOATING_TASK_STRING;
+import static seedu.taskmanager.commons.util.CommonStringUtil.UNDONE_STRING;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/**
+ * An index from a task type ({@code floating}, {@code deadline} or {@code event}) or done status ({@code done} or
+ * {@code undone}) to the tasks in that category. Every task is in exactly one type and one done status category.
+ */
+class TaskCategoryIndex {
+
+    private final Map<String, Set<ReadOnlyTask>> tasksByCategory = new HashMap<>();
+
+    TaskCategoryIndex() {
+        for (String category : new String[] {FLOATING_TASK_STRING, DEADLINE_STRING, EVENT_STRING, DONE_STRING,
+            UNDONE_STRING}) {
+            tasksByCategory.put(category, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
+    public void add(ReadOnlyTask task) {
+        tasksByCategory.get(getType(task)).add(task);
+        tasksByCategory.get(getDoneStatus(task)).add(task);
+    }
+
+    public void remove(ReadOnlyTask task) {
+        tasksByCategory.get(getType(task)).remove(task);
+        tasksByCategory.get(getDoneStatus(task)).remove(task);
+    }
+
+    public void clear() {
+        tasksByCategory.values().forEach(Set::clear);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks in {@code category}.
+     * @throws IllegalArgumentException
+     *         if {@code category} is not a task type or done status.
+     */
+    public Set<ReadOnlyTask> getTasksIn(String category) {
+        Set<ReadOnlyTask> tasks = tasksByCategory.get(category);
+        if (tasks == null) {
+            throw new IllegalArgumentException("Unknown task category: " + category);
+        }
+        return Collections.unmodifiableSet(tasks);
+    }
+
+    private static String getType(ReadOnlyTask task) {
+        if (task.isEvent()) {
+            return EVENT_STRING;
+        }
+        return task.isDeadline() ? DEADLINE_STRING : FLOATING_TASK_STRING;
+    }
+
+    private static String getDoneStatus(ReadOnlyTask task) {
+        return task.isDone() ? DONE_STRING : UNDONE_STRING;
+    }
+}
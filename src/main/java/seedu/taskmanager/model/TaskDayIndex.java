@@ -0,0 +1,61 @@
+package seedu.taskmanager.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/**
+ * An index from an epoch day to the tasks that start or end on that day. Only days with tasks have a bucket, so
+ * querying or emptying a day leaves nothing behind.
+ * @see seedu.taskmanager.model.task.TaskDate#getEpochDay()
+ */
+class TaskDayIndex {
+
+    private final Map<Long, Set<ReadOnlyTask>> tasksByEpochDay = new HashMap<>();
+
+    public void add(ReadOnlyTask task) {
+        if (task.hasStartDate()) {
+            getOrCreateBucket(task.getStartDate().getEpochDay()).add(task);
+        }
+        if (task.hasEndDate()) {
+            getOrCreateBucket(task.getEndDate().getEpochDay()).add(task);
+        }
+    }
+
+    public void remove(ReadOnlyTask task) {
+        if (task.hasStartDate()) {
+            removeFromBucket(task.getStartDate().getEpochDay(), task);
+        }
+        if (task.hasEndDate()) {
+            removeFromBucket(task.getEndDate().getEpochDay(), task);
+        }
+    }
+
+    public void clear() {
+        tasksByEpochDay.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the tasks that start or end on {@code epochDay}, which is only valid until the
+     * index next changes.
+     */
+    public Set<ReadOnlyTask> getTasksOn(long epochDay) {
+        Set<ReadOnlyTask> bucket = tasksByEpochDay.get(epochDay);
+        return bucket == null ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+    }
+
+    private Set<ReadOnlyTask> getOrCreateBucket(long epochDay) {
+        return tasksByEpochDay.computeIfAbsent(epochDay, day -> Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private void removeFromBucket(long epochDay, ReadOnlyTask task) {
+        Set<ReadOnlyTask> bucket = tasksByEpochDay.get(epochDay);
+        if (bucket != null && bucket.remove(task) && bucket.isEmpty()) {
+            tasksByEpochDay.remove(epochDay);
+        }
+    }
+}
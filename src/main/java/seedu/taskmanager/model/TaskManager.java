@@ -1,30 +1,51 @@
 
 package seedu.taskmanager.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.taskmanager.commons.core.UnmodifiableObservableList;
 import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.TagRegistry;
 import seedu.taskmanager.model.tag.UniqueTagList;
 import seedu.taskmanager.model.task.ReadOnlyTask;
 import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
 import seedu.taskmanager.model.task.UniqueTaskList;
 import seedu.taskmanager.model.task.UniqueTaskList.DuplicateTaskException;
 
 /**
  * Wraps all data at the address-book level Duplicates are not allowed (by .equals comparison)
+ * <p>
+ * A task manager is not thread-safe, but after each change it publishes an immutable snapshot of itself, which any
+ * thread may read through {@link #getCommittedSnapshot()} to see a consistent state without locking.
  */
 public class TaskManager implements ReadOnlyTaskManager {
 
     private final UniqueTaskList tasks;
-    private final UniqueTagList tags;
+    private final TagRegistry tags;
+    private final EventIntervalIndex eventIndex = new EventIntervalIndex();
+    private final TaskDayIndex dayIndex = new TaskDayIndex();
+    private final TaskWordIndex wordIndex = new TaskWordIndex();
+    private final TaskCategoryIndex categoryIndex = new TaskCategoryIndex();
+    private final TaskTagIndex tagIndex = new TaskTagIndex();
+    private final DueSoonScheduler dueSoonScheduler = new DueSoonScheduler();
+    /** Immutable copy of {@link #tags} shared by snapshots, or null if {@link #tags} changed since it was taken. */
+    private List<Tag> tagsSnapshot;
+    /** Receives a delta for every change made through the public operations, if set. */
+    private Consumer<TaskManagerDelta> deltaRecorder;
+    /** The state after the latest committed change. Swapped as a whole, so readers never see a change half made. */
+    private final AtomicReference<TaskManagerSnapshot> committedSnapshot = new AtomicReference<>();
+    /** The number of changes begun but not ended; snapshots are only published when none are open. */
+    private int openChangeCount;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication between
@@ -33,43 +54,140 @@ public class TaskManager implements ReadOnlyTaskManager {
      */
     {
         tasks = new UniqueTaskList();
-        tags = new UniqueTagList();
+        tags = new TagRegistry();
+        committedSnapshot.set(getSnapshot());
     }
 
     public TaskManager() {
     }
 
     /**
-     * Creates an TaskManager using the Tasks and Tags in the {@code toBeCopied}
+     * Creates an TaskManager using the Tasks and Tags in the {@code toBeCopied}. The tasks of another task manager or
+     * of a snapshot are shared rather than copied, since they are immutable.
      */
     public TaskManager(ReadOnlyTaskManager toBeCopied) {
         this();
-        resetData(toBeCopied);
+        if (toBeCopied instanceof TaskManager) {
+            restoreSnapshot(((TaskManager) toBeCopied).getSnapshot());
+        } else if (toBeCopied instanceof TaskManagerSnapshot) {
+            restoreSnapshot((TaskManagerSnapshot) toBeCopied);
+        } else {
+            resetData(toBeCopied);
+        }
     }
 
     //// list overwrite operations
 
     public void setTasks(List<? extends ReadOnlyTask> tasks) throws UniqueTaskList.DuplicateTaskException {
         this.tasks.setTasks(tasks);
+        commit();
     }
 
     public void setTags(Collection<Tag> tags) throws UniqueTagList.DuplicateTagException {
         this.tags.setTags(tags);
+        tagsSnapshot = null;
+        commit();
     }
 
     public void resetData(ReadOnlyTaskManager newData) {
         assert newData != null;
+        TaskManagerSnapshot before = deltaRecorder == null ? null : getSnapshot();
+        beginChange();
         try {
-            setTasks(newData.getTaskList());
-        } catch (UniqueTaskList.DuplicateTaskException e) {
-            assert false : "TaskManagers should not have duplicate tasks";
+            try {
+                setTasks(newData.getTaskList());
+            } catch (UniqueTaskList.DuplicateTaskException e) {
+                assert false : "TaskManagers should not have duplicate tasks";
+            }
+            try {
+                setTags(newData.getTagList());
+            } catch (UniqueTagList.DuplicateTagException e) {
+                assert false : "TaskManagers should not have duplicate tags";
+            }
+            syncMasterTagListWithTasks();
+            rebuildIndices();
+        } finally {
+            endChange();
         }
+        if (deltaRecorder != null) {
+            deltaRecorder.accept(TaskManagerDelta.reset(before, getSnapshot()));
+        }
+    }
+
+    //// publishing snapshots
+
+    /**
+     * Returns an immutable snapshot of the state after the latest committed change. May be called from any thread.
+     */
+    public TaskManagerSnapshot getCommittedSnapshot() {
+        return committedSnapshot.get();
+    }
+
+    /**
+     * Begins a change made of several smaller ones, such as loading many tasks, so that no snapshot is published until
+     * the matching call to {@link #endChange()}. Changes may be nested.
+     */
+    public void beginChange() {
+        openChangeCount++;
+    }
+
+    /**
+     * Ends a change begun with {@link #beginChange()}, and publishes a snapshot if it was the outermost one.
+     */
+    public void endChange() {
+        assert openChangeCount > 0;
+        openChangeCount--;
+        commit();
+    }
+
+    /**
+     * Publishes a snapshot of the current state, unless a larger change is still being made. Takes O(1) time unless the
+     * tags changed since the last snapshot.
+     */
+    private void commit() {
+        if (openChangeCount == 0) {
+            committedSnapshot.set(getSnapshot());
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the current tasks and tags. Takes O(1) time unless the tags changed since the
+     * last snapshot.
+     */
+    public TaskManagerSnapshot getSnapshot() {
+        return new TaskManagerSnapshot(tasks.getSnapshot(), getTagsSnapshot());
+    }
+
+    private List<Tag> getTagsSnapshot() {
+        if (tagsSnapshot == null) {
+            tagsSnapshot = Collections.unmodifiableList(new ArrayList<>(tags.asObservableList()));
+        }
+        return tagsSnapshot;
+    }
+
+    /**
+     * Sets the receiver of a {@link TaskManagerDelta} for every later change made through the public operations of
+     * this task manager, or stops recording deltas if {@code recorder} is null.
+     */
+    void setDeltaRecorder(Consumer<TaskManagerDelta> recorder) {
+        this.deltaRecorder = recorder;
+    }
+
+    /**
+     * Replaces the tasks and tags with those in {@code snapshot}. Unlike {@link #resetData(ReadOnlyTaskManager)}, the
+     * tasks are shared rather than copied, and their tags are not re-synced, since both were already done when the
+     * snapshot's tasks were added.
+     */
+    public void restoreSnapshot(TaskManagerSnapshot snapshot) {
+        assert snapshot != null;
+        beginChange();
         try {
-            setTags(newData.getTagList());
-        } catch (UniqueTagList.DuplicateTagException e) {
-            assert false : "TaskManagers should not have duplicate tags";
+            tasks.setTasks(snapshot.getTasks());
+            restoreTags(snapshot.getTags());
+            rebuildIndices();
+        } finally {
+            endChange();
         }
-        syncMasterTagListWith(tasks);
     }
 
     //// task-level operations
@@ -81,8 +199,15 @@ public class TaskManager implements ReadOnlyTaskManager {
      *         if an equivalent task already exists.
      */
     public void addTask(Task p) throws UniqueTaskList.DuplicateTaskException {
-        syncMasterTagListWith(p);
-        tasks.add(p);
+        List<Tag> tagsBefore = getTagsSnapshot();
+        Task toAdd = withCurrentDueSoonStatus(syncMasterTagListWith(p));
+        tasks.add(toAdd);
+        indexTask(toAdd);
+        commit();
+        if (deltaRecorder != null) {
+            deltaRecorder.accept(TaskManagerDelta.added(tasks.asObservableList().size() - 1, toAdd, tagsBefore,
+                    getTagsSnapshot()));
+        }
     }
 
     /**
@@ -97,64 +222,341 @@ public class TaskManager implements ReadOnlyTaskManager {
     public void updateTask(int index, ReadOnlyTask editedReadOnlyTask) throws UniqueTaskList.DuplicateTaskException {
         assert editedReadOnlyTask != null;
 
-        Task editedTask = new Task(editedReadOnlyTask);
-        syncMasterTagListWith(editedTask);
+        List<Tag> tagsBefore = getTagsSnapshot();
+        Task editedTask = withCurrentDueSoonStatus(syncMasterTagListWith(new Task(editedReadOnlyTask)));
         // TODO: the tags master list will be updated even though the below line
         // fails.
         // This can cause the tags master list to have additional tags that are
         // not tagged to any task
         // in the task list.
+        Task taskToUpdate = tasks.asObservableList().get(index);
         tasks.updateTask(index, editedTask);
+        unindexTask(taskToUpdate);
+        indexTask(editedTask);
+        commit();
+        if (deltaRecorder != null) {
+            deltaRecorder.accept(TaskManagerDelta.updated(index, taskToUpdate, editedTask, tagsBefore,
+                    getTagsSnapshot()));
+        }
     }
 
     /**
-     * Ensures that every tag in this task: - exists in the master list {@link #tags} - points to a Tag object in the
-     * master list
+     * Ensures that every tag in this task exists in the master list {@link #tags}, and returns the task with its tags
+     * pointing to the Tag objects in the master list. Takes time proportional to the task's own tags, and only builds a
+     * new task if some of its tags were not the master list's objects.
      */
-    private void syncMasterTagListWith(Task task) {
-        final UniqueTagList taskTags = task.getTags();
-        tags.mergeFrom(taskTags);
-
-        // Create map with values = tag object references in the master list
-        // used for checking task tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
-
-        // Rebuild the list of task tags to point to the relevant tags in the
-        // master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        taskTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        task.setTags(new UniqueTagList(correctTagReferences));
+    private Task syncMasterTagListWith(Task task) {
+        final int tagCount = tags.size();
+        final Set<Tag> internedTaskTags = new LinkedHashSet<>();
+        boolean isAlreadyInterned = true;
+        for (Tag tag : task.getTagSet()) {
+            Tag internedTag = tags.intern(tag);
+            if (internedTag != tag) {
+                isAlreadyInterned = false;
+            }
+            internedTaskTags.add(internedTag);
+        }
+        if (tags.size() != tagCount) {
+            tagsSnapshot = null;
+        }
+        return isAlreadyInterned ? task : new Task.Builder(task).setTags(internedTaskTags).build();
     }
 
     /**
-     * Ensures that every tag in these tasks: - exists in the master list {@link #tags} - points to a Tag object in the
-     * master list
+     * Ensures that every tag in {@link #tasks} exists in the master list {@link #tags} and points to a Tag object in
+     * the master list, replacing the tasks whose tags did not.
      * @see #syncMasterTagListWith(Task)
      */
-    private void syncMasterTagListWith(UniqueTaskList tasks) {
-        tasks.forEach(this::syncMasterTagListWith);
+    private void syncMasterTagListWithTasks() {
+        List<Task> taskList = tasks.asObservableList();
+        for (int i = 0; i < taskList.size(); i++) {
+            Task task = taskList.get(i);
+            Task syncedTask = syncMasterTagListWith(task);
+            if (syncedTask != task) {
+                try {
+                    tasks.updateTask(i, syncedTask);
+                } catch (UniqueTaskList.DuplicateTaskException e) {
+                    assert false : "Replacing a task's tags should not introduce duplicates";
+                }
+            }
+        }
     }
 
     public boolean removeTask(ReadOnlyTask key) throws UniqueTaskList.TaskNotFoundException {
-        if (tasks.remove(key)) {
-            return true;
-        } else {
-            throw new UniqueTaskList.TaskNotFoundException();
+        Task toRemove = tasks.getEquivalentTask(key).orElseThrow(UniqueTaskList.TaskNotFoundException::new);
+        int index = tasks.asObservableList().indexOf(toRemove);
+        removeTaskAt(index);
+        if (deltaRecorder != null) {
+            deltaRecorder.accept(TaskManagerDelta.removed(index, toRemove, getTagsSnapshot()));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the position of the task equivalent to {@code key}.
+     * @throws UniqueTaskList.TaskNotFoundException
+     *         if there is no such task.
+     */
+    int indexOfTask(ReadOnlyTask key) throws UniqueTaskList.TaskNotFoundException {
+        Task task = tasks.getEquivalentTask(key).orElseThrow(UniqueTaskList.TaskNotFoundException::new);
+        return tasks.asObservableList().indexOf(task);
+    }
+
+    /**
+     * Makes every change in {@code mutations} in order, or none of them if any fails. The changes are recorded as
+     * deltas only once all of them have been made.
+     * @throws DuplicateTaskException
+     *         if a change would make a task equivalent to another task, in which case nothing is changed.
+     * @throws UniqueTaskList.TaskNotFoundException
+     *         if a task to change is not in the task manager, in which case nothing is changed.
+     */
+    void applyBatch(List<TaskMutation> mutations)
+            throws DuplicateTaskException, UniqueTaskList.TaskNotFoundException {
+        assert mutations != null;
+        Consumer<TaskManagerDelta> recorder = deltaRecorder;
+        List<Tag> tagsBefore = getTagsSnapshot();
+        List<TaskManagerDelta> batchDeltas = new ArrayList<>();
+        deltaRecorder = batchDeltas::add;
+        beginChange();
+        try {
+            for (TaskMutation mutation : mutations) {
+                mutation.applyTo(this);
+            }
+        } catch (DuplicateTaskException | UniqueTaskList.TaskNotFoundException e) {
+            for (int i = batchDeltas.size() - 1; i >= 0; i--) {
+                batchDeltas.get(i).revert(this);
+            }
+            if (getTagsSnapshot() != tagsBefore) {
+                restoreTags(tagsBefore);
+            }
+            throw e;
+        } finally {
+            deltaRecorder = recorder;
+            endChange();
+        }
+        if (recorder != null) {
+            batchDeltas.forEach(recorder);
         }
     }
 
+    //// delta operations, which are not recorded as deltas themselves
+
+    /**
+     * Inserts {@code task}, whose tags must already be in the master tag list, at position {@code index}.
+     */
+    void insertTask(int index, Task task) {
+        task = withCurrentDueSoonStatus(task);
+        try {
+            tasks.add(index, task);
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            assert false : "Deltas should not introduce duplicate tasks";
+        }
+        indexTask(task);
+        commit();
+    }
+
+    void removeTaskAt(int index) {
+        unindexTask(tasks.remove(index));
+        commit();
+    }
+
+    /**
+     * Replaces the task at position {@code index} with {@code task}, whose tags must already be in the master tag
+     * list.
+     */
+    void replaceTask(int index, Task task) {
+        task = withCurrentDueSoonStatus(task);
+        Task replaced = tasks.asObservableList().get(index);
+        try {
+            tasks.updateTask(index, task);
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            assert false : "Deltas should not introduce duplicate tasks";
+        }
+        unindexTask(replaced);
+        indexTask(task);
+        commit();
+    }
+
+    /**
+     * Replaces the master tag list with {@code tagList}, which must not be modified afterwards.
+     */
+    void restoreTags(List<Tag> tagList) {
+        try {
+            tags.setTags(tagList);
+        } catch (UniqueTagList.DuplicateTagException e) {
+            assert false : "TaskManagers should not have duplicate tags";
+        }
+        tagsSnapshot = tagList;
+        commit();
+    }
+
+    //// index maintenance
+
+    /**
+     * Adds {@code task}, which must be in {@link #tasks}, to every secondary index. The indices hold tasks by identity,
+     * which is safe as tasks are immutable: a changed task is a new task, indexed once the one it replaces is removed.
+     */
+    private void indexTask(Task task) {
+        eventIndex.add(task);
+        dayIndex.add(task);
+        wordIndex.add(task);
+        categoryIndex.add(task);
+        tagIndex.add(task);
+        dueSoonScheduler.add(task);
+    }
+
+    /**
+     * Removes {@code task} from every secondary index.
+     */
+    private void unindexTask(Task task) {
+        eventIndex.remove(task);
+        dayIndex.remove(task);
+        wordIndex.remove(task);
+        categoryIndex.remove(task);
+        tagIndex.remove(task);
+        dueSoonScheduler.remove(task);
+    }
+
+    private void rebuildIndices() {
+        eventIndex.clear();
+        dayIndex.clear();
+        wordIndex.clear();
+        categoryIndex.clear();
+        tagIndex.clear();
+        dueSoonScheduler.clear();
+        List<Task> taskList = tasks.asObservableList();
+        for (int i = 0; i < taskList.size(); i++) {
+            Task task = taskList.get(i);
+            Task refreshedTask = withCurrentDueSoonStatus(task);
+            if (refreshedTask != task) {
+                try {
+                    tasks.updateTask(i, refreshedTask);
+                } catch (UniqueTaskList.DuplicateTaskException e) {
+                    assert false : "Replacing a task's due-soon status should not introduce duplicates";
+                }
+            }
+            indexTask(refreshedTask);
+        }
+    }
+
+    /**
+     * Returns the undone events that overlap the period from {@code startDate} to {@code endDate}, both inclusive,
+     * ordered by their start dates.
+     */
+    public List<ReadOnlyTask> getEventsOverlapping(TaskDate startDate, TaskDate endDate) {
+        assert startDate != null && endDate != null;
+        return eventIndex.getOverlapping(startDate.getTime(), endDate.getTime());
+    }
+
+    /**
+     * Returns an unmodifiable view of the tasks that start or end on the given epoch day, which is only valid until the
+     * next change.
+     * @see TaskDate#getEpochDay()
+     */
+    public Set<ReadOnlyTask> getTasksOnDay(long epochDay) {
+        return dayIndex.getTasksOn(epochDay);
+    }
+
+    /**
+     * Returns an unmodifiable view of the tasks whose names contain {@code word} as a full word, ignoring case, which
+     * is only valid until the next change.
+     */
+    public Set<ReadOnlyTask> getTasksWithWord(String word) {
+        return wordIndex.getTasksWithWord(word);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tasks of a task type or done status, as named by the
+     * {@code CommonStringUtil} constants.
+     * @throws IllegalArgumentException
+     *         if {@code category} is not a task type or done status.
+     */
+    public Set<ReadOnlyTask> getTasksInCategory(String category) {
+        return categoryIndex.getTasksIn(category);
+    }
+
+    /**
+     * Returns an unmodifiable view of the tasks tagged with {@code tag}, which is only valid until the next change.
+     */
+    public Set<ReadOnlyTask> getTasksWithTag(Tag tag) {
+        return tagIndex.getTasksWithTag(tag);
+    }
+
+    //// due-soon status
+
+    /**
+     * Sets how long before its earliest date an undone task becomes due soon, replaces the tasks whose due-soon status
+     * changed as one change, and returns the replacements.
+     */
+    public List<ReadOnlyTask> setDueSoonWindow(long windowMillis) {
+        List<ReadOnlyTask> changed = new ArrayList<>();
+        dueSoonScheduler.setWindow(windowMillis);
+        beginChange();
+        try {
+            List<Task> taskList = tasks.asObservableList();
+            for (int i = 0; i < taskList.size(); i++) {
+                Task task = taskList.get(i);
+                if (withCurrentDueSoonStatus(task) != task) {
+                    replaceTask(i, task);
+                    changed.add(taskList.get(i));
+                } else {
+                    dueSoonScheduler.add(task);
+                }
+            }
+        } finally {
+            endChange();
+        }
+        return changed;
+    }
+
+    /**
+     * Replaces the tasks that have become due soon as time passed with tasks marked as due soon, as one change, and
+     * returns the replacements. The change is not recorded as a delta, as it is not the user's to undo.
+     */
+    public List<ReadOnlyTask> updateDueSoonStatus() {
+        List<ReadOnlyTask> newlyDueSoon = new ArrayList<>();
+        beginChange();
+        try {
+            for (Task task : dueSoonScheduler.tick()) {
+                Task dueSoonTask = new Task.Builder(task).setDueSoonStatus(true).build();
+                replaceTask(tasks.indexOf(task), dueSoonTask);
+                newlyDueSoon.add(dueSoonTask);
+            }
+        } finally {
+            endChange();
+        }
+        return newlyDueSoon;
+    }
+
+    /**
+     * Returns the time in epoch milliseconds at which the next task becomes due soon, or {@code Long.MAX_VALUE} if
+     * there is no such task.
+     */
+    public long getNextDueSoonTime() {
+        return dueSoonScheduler.getNextDueSoonTime();
+    }
+
+    /**
+     * Returns {@code task}, or a copy of it if its due-soon status is not the current one.
+     */
+    private Task withCurrentDueSoonStatus(Task task) {
+        boolean isDueSoon = dueSoonScheduler.isDueSoon(task);
+        return task.isDueSoon() == isDueSoon ? task : new Task.Builder(task).setDueSoonStatus(isDueSoon).build();
+    }
+
     //// tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
         tags.add(t);
+        tagsSnapshot = null;
+        commit();
     }
 
     //// util methods
 
     @Override
     public String toString() {
-        return tasks.asObservableList().size() + " tasks, " + tags.asObservableList().size() + " tags";
+        return tasks.asObservableList().size() + " tasks, " + tags.size() + " tags";
         // TODO: refine later
     }
 
@@ -173,7 +575,7 @@ public class TaskManager implements ReadOnlyTaskManager {
         return other == this // short circuit if same object
                 || (other instanceof TaskManager // instanceof handles nulls
                         && this.tasks.equals(((TaskManager) other).tasks)
-                        && this.tags.equalsOrderInsensitive(((TaskManager) other).tags));
+                        && this.tags.equals(((TaskManager) other).tags));
     }
 
     @Override
@@ -0,0 +1,153 @@
+package seedu.taskmanager.model;
+
+import java.util.List;
+
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.task.Task;
+
+/**
+ * A single change made to a {@link TaskManager}, which can be re-applied or reverted. Deltas refer to tasks by their
+ * position in the list, so they must be applied and reverted in the order they were made in. Each delta also keeps the
+ * task manager's tag lists from before and after the change, which are shared with the task manager and so cost
+ * nothing unless the change added tags.
+ */
+abstract class TaskManagerDelta {
+
+    private final List<Tag> tagsBefore;
+    private final List<Tag> tagsAfter;
+
+    private TaskManagerDelta(List<Tag> tagsBefore, List<Tag> tagsAfter) {
+        this.tagsBefore = tagsBefore;
+        this.tagsAfter = tagsAfter;
+    }
+
+    static TaskManagerDelta added(int index, Task task, List<Tag> tagsBefore, List<Tag> tagsAfter) {
+        return new Added(index, task, tagsBefore, tagsAfter);
+    }
+
+    static TaskManagerDelta removed(int index, Task task, List<Tag> tags) {
+        return new Removed(index, task, tags);
+    }
+
+    static TaskManagerDelta updated(int index, Task oldTask, Task newTask, List<Tag> tagsBefore, List<Tag> tagsAfter) {
+        return new Updated(index, oldTask, newTask, tagsBefore, tagsAfter);
+    }
+
+    static TaskManagerDelta reset(TaskManagerSnapshot before, TaskManagerSnapshot after) {
+        return new Reset(before, after);
+    }
+
+    /**
+     * Makes the change again on {@code taskManager}, which must be in the state it was in just before the change.
+     */
+    void apply(TaskManager taskManager) {
+        applyToTasks(taskManager);
+        if (tagsAfter != tagsBefore) {
+            taskManager.restoreTags(tagsAfter);
+        }
+    }
+
+    /**
+     * Undoes the change on {@code taskManager}, which must be in the state it was in just after the change.
+     */
+    void revert(TaskManager taskManager) {
+        revertOnTasks(taskManager);
+        if (tagsAfter != tagsBefore) {
+            taskManager.restoreTags(tagsBefore);
+        }
+    }
+
+    abstract void applyToTasks(TaskManager taskManager);
+
+    abstract void revertOnTasks(TaskManager taskManager);
+
+    private static class Added extends TaskManagerDelta {
+        private final int index;
+        private final Task task;
+
+        Added(int index, Task task, List<Tag> tagsBefore, List<Tag> tagsAfter) {
+            super(tagsBefore, tagsAfter);
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        void applyToTasks(TaskManager taskManager) {
+            taskManager.insertTask(index, task);
+        }
+
+        @Override
+        void revertOnTasks(TaskManager taskManager) {
+            taskManager.removeTaskAt(index);
+        }
+    }
+
+    private static class Removed extends TaskManagerDelta {
+        private final int index;
+        private final Task task;
+
+        Removed(int index, Task task, List<Tag> tags) {
+            super(tags, tags);
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        void applyToTasks(TaskManager taskManager) {
+            taskManager.removeTaskAt(index);
+        }
+
+        @Override
+        void revertOnTasks(TaskManager taskManager) {
+            taskManager.insertTask(index, task);
+        }
+    }
+
+    private static class Updated extends TaskManagerDelta {
+        private final int index;
+        private final Task oldTask;
+        private final Task newTask;
+
+        Updated(int index, Task oldTask, Task newTask, List<Tag> tagsBefore, List<Tag> tagsAfter) {
+            super(tagsBefore, tagsAfter);
+            this.index = index;
+            this.oldTask = oldTask;
+            this.newTask = newTask;
+        }
+
+        @Override
+        void applyToTasks(TaskManager taskManager) {
+            taskManager.replaceTask(index, newTask);
+        }
+
+        @Override
+        void revertOnTasks(TaskManager taskManager) {
+            taskManager.replaceTask(index, oldTask);
+        }
+    }
+
+    /**
+     * Replacement of the whole task manager, as done by {@code clear}. Both versions are kept as snapshots, which share
+     * their tasks with the task manager.
+     */
+    private static class Reset extends TaskManagerDelta {
+        private final TaskManagerSnapshot before;
+        private final TaskManagerSnapshot after;
+
+        Reset(TaskManagerSnapshot before, TaskManagerSnapshot after) {
+            super(null, null);
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void applyToTasks(TaskManager taskManager) {
+            taskManager.restoreSnapshot(after);
+        }
+
+        @Override
+        void revertOnTasks(TaskManager taskManager) {
+            taskManager.restoreSnapshot(before);
+        }
+    }
+}
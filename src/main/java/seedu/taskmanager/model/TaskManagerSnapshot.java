@@ -0,0 +1,66 @@
+package seedu.taskmanager.model;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.taskmanager.commons.core.UnmodifiableObservableList;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.task.PersistentTaskList;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/**
+ * An immutable snapshot of a {@link TaskManager}. Taking a snapshot takes O(1) time, as its tasks are shared with the
+ * task manager and with other snapshots through a {@link PersistentTaskList}.
+ * @see TaskManager#getSnapshot()
+ * @see TaskManager#restoreSnapshot(TaskManagerSnapshot)
+ */
+public class TaskManagerSnapshot implements ReadOnlyTaskManager {
+
+    private final PersistentTaskList tasks;
+    private final List<Tag> tags;
+
+    /**
+     * @param tags
+     *        must not be modified afterwards.
+     */
+    TaskManagerSnapshot(PersistentTaskList tasks, List<Tag> tags) {
+        assert tasks != null && tags != null;
+        this.tasks = tasks;
+        this.tags = tags;
+    }
+
+    PersistentTaskList getTasks() {
+        return tasks;
+    }
+
+    List<Tag> getTags() {
+        return tags;
+    }
+
+    public int getTaskCount() {
+        return tasks.size();
+    }
+
+    public int getTagCount() {
+        return tags.size();
+    }
+
+    /**
+     * Returns a copy of the snapshot's tasks. Takes O(n) time.
+     */
+    @Override
+    public ObservableList<ReadOnlyTask> getTaskList() {
+        return new UnmodifiableObservableList<>(FXCollections.<ReadOnlyTask>observableArrayList(tasks.toList()));
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return new UnmodifiableObservableList<>(FXCollections.observableArrayList(tags));
+    }
+
+    @Override
+    public String toString() {
+        return tasks.size() + " tasks, " + tags.size() + " tags";
+    }
+}
@@ -1,20 +1,48 @@
-
 package seedu.taskmanager.model;
 
+import java.util.Collections;
+import java.util.List;
+
 //@@author A0140417R
 public class TaskManagerState {
-    private TaskManager taskManager = new TaskManager();
+    private final TaskManagerSnapshot taskManager;
+    private final List<TaskManagerDelta> deltas;
     private String executedCommand;
 
-    public TaskManagerState(ReadOnlyTaskManager taskManager, String executedCommand) {
-        this.taskManager.resetData(taskManager);
+    public TaskManagerState(TaskManagerSnapshot taskManager, String executedCommand) {
+        this.taskManager = taskManager;
+        this.deltas = Collections.emptyList();
+        this.executedCommand = executedCommand;
+    }
+
+    /**
+     * Creates a state that is only known by the changes that led to it from the previous state, in the order they
+     * were made.
+     */
+    TaskManagerState(List<TaskManagerDelta> deltas, String executedCommand) {
+        this.taskManager = null;
+        this.deltas = deltas;
         this.executedCommand = executedCommand;
     }
 
-    public ReadOnlyTaskManager getTaskManager() {
+    /**
+     * Returns the snapshot of this state, or null if the state only records its changes.
+     */
+    public TaskManagerSnapshot getTaskManager() {
         return taskManager;
     }
 
+    List<TaskManagerDelta> getDeltas() {
+        return deltas;
+    }
+
+    /**
+     * Returns this state without the changes that led to it, for use as the oldest state in the history.
+     */
+    TaskManagerState withoutDeltas() {
+        return deltas.isEmpty() ? this : new TaskManagerState(Collections.emptyList(), executedCommand);
+    }
+
     public String getExecutedCommand() {
         return executedCommand;
     }
@@ -1,22 +1,75 @@
-
 package seedu.taskmanager.model;
 
 import java.util.ArrayList;
+import java.util.List;
 
 //@@author A0140417R
 public class TaskManagerStateManager {
 
     private ArrayList<TaskManagerState> states = new ArrayList<TaskManagerState>();
     private Integer currentStateIndex = 0;
+    private List<TaskManagerDelta> pendingDeltas = new ArrayList<>();
+    private final int maxUndoCount;
+    private int evictedStateCount = 0;
 
     public TaskManagerStateManager(TaskManagerState initState) {
+        this(initState, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a state manager that keeps enough states to undo at most {@code maxUndoCount} commands, forgetting the
+     * oldest states beyond that.
+     */
+    public TaskManagerStateManager(TaskManagerState initState, int maxUndoCount) {
+        assert maxUndoCount >= 0;
         states.add(initState);
+        this.maxUndoCount = maxUndoCount;
     }
 
     public void addState(TaskManagerState state) {
         removeFutureStates();
         this.states.add(state);
         this.currentStateIndex++;
+        evictOldStates();
+    }
+
+    /**
+     * Forgets the oldest states until at most {@link #maxUndoCount} commands can be undone. The new oldest state can
+     * no longer be undone, so the changes that led to it are forgotten too.
+     */
+    private void evictOldStates() {
+        if (currentStateIndex <= maxUndoCount) {
+            return;
+        }
+        int evictCount = currentStateIndex - maxUndoCount;
+        states.subList(0, evictCount).clear();
+        currentStateIndex -= evictCount;
+        evictedStateCount += evictCount;
+        states.set(0, states.get(0).withoutDeltas());
+    }
+
+    /**
+     * Records a change made since the last state was added. The changes are kept until the next call to
+     * {@link #addPendingDeltasAsState(String)}.
+     */
+    void recordDelta(TaskManagerDelta delta) {
+        pendingDeltas.add(delta);
+    }
+
+    /**
+     * Adds a state made up of the changes recorded since the last state was added.
+     */
+    void addPendingDeltasAsState(String executedCommand) {
+        addState(new TaskManagerState(takePendingDeltas(), executedCommand));
+    }
+
+    /**
+     * Returns and forgets the changes recorded since the last state was added, in the order they were made.
+     */
+    List<TaskManagerDelta> takePendingDeltas() {
+        List<TaskManagerDelta> deltas = pendingDeltas;
+        pendingDeltas = new ArrayList<>();
+        return deltas;
     }
 
     private void removeFutureStates() {
@@ -25,13 +78,47 @@ public class TaskManagerStateManager {
         }
     }
 
+    /**
+     * Returns the number of commands that can currently be undone.
+     */
+    public int getUndoDepth() {
+        return currentStateIndex;
+    }
+
+    /**
+     * Returns the number of commands that can currently be redone.
+     */
+    public int getRedoDepth() {
+        return states.size() - 1 - currentStateIndex;
+    }
+
+    /**
+     * Returns the number of states forgotten so far to stay within the history limit.
+     */
+    public int getEvictedStateCount() {
+        return evictedStateCount;
+    }
+
+    /**
+     * Returns the number of changes kept by all states, including those not yet added as a state.
+     */
+    public int getDeltaCount() {
+        return states.stream().mapToInt(state -> state.getDeltas().size()).sum() + pendingDeltas.size();
+    }
+
+    public TaskManagerState getCurrentState() {
+        return states.get(currentStateIndex);
+    }
+
     public TaskManagerState getPreviousState() throws IndexOutOfBoundsException {
+        TaskManagerState previousState = states.get(currentStateIndex - 1);
         currentStateIndex--;
-        return states.get(currentStateIndex);
+        return previousState;
     }
 
     public TaskManagerState getNextState() throws IndexOutOfBoundsException {
+        TaskManagerState nextState = states.get(currentStateIndex + 1);
         currentStateIndex++;
-        return states.get(currentStateIndex);
+        return nextState;
     }
 }
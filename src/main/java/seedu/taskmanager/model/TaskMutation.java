@@ -0,0 +1,100 @@
+package seedu.taskmanager.model;
+
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.UniqueTaskList.DuplicateTaskException;
+import seedu.taskmanager.model.task.UniqueTaskList.TaskNotFoundException;
+
+/**
+ * A single change to the tasks of a task manager, to be made together with others in a batch through
+ * {@link Model#applyBatch(java.util.List)}. Tasks are referred to by value rather than by index, since indices shift
+ * as earlier changes in the batch are made.
+ */
+public abstract class TaskMutation {
+
+    private TaskMutation() {
+    }
+
+    /** Returns a mutation that adds {@code task}. */
+    public static TaskMutation add(Task task) {
+        assert task != null;
+        return new Add(task);
+    }
+
+    /** Returns a mutation that deletes the task equivalent to {@code target}. */
+    public static TaskMutation delete(ReadOnlyTask target) {
+        assert target != null;
+        return new Delete(target);
+    }
+
+    /** Returns a mutation that replaces the task equivalent to {@code target} with {@code editedTask}. */
+    public static TaskMutation update(ReadOnlyTask target, ReadOnlyTask editedTask) {
+        assert target != null && editedTask != null;
+        return new Update(target, editedTask);
+    }
+
+    /**
+     * Makes the change on {@code taskManager}.
+     * @throws DuplicateTaskException
+     *         if the change would make the task equivalent to another task in the task manager.
+     * @throws TaskNotFoundException
+     *         if the task to change is not in the task manager.
+     */
+    abstract void applyTo(TaskManager taskManager) throws DuplicateTaskException, TaskNotFoundException;
+
+    private static class Add extends TaskMutation {
+        private final Task task;
+
+        Add(Task task) {
+            this.task = task;
+        }
+
+        @Override
+        void applyTo(TaskManager taskManager) throws DuplicateTaskException {
+            taskManager.addTask(task);
+        }
+
+        @Override
+        public String toString() {
+            return "add " + task.getName();
+        }
+    }
+
+    private static class Delete extends TaskMutation {
+        private final ReadOnlyTask target;
+
+        Delete(ReadOnlyTask target) {
+            this.target = target;
+        }
+
+        @Override
+        void applyTo(TaskManager taskManager) throws TaskNotFoundException {
+            taskManager.removeTask(target);
+        }
+
+        @Override
+        public String toString() {
+            return "delete " + target.getName();
+        }
+    }
+
+    private static class Update extends TaskMutation {
+        private final ReadOnlyTask target;
+        private final ReadOnlyTask editedTask;
+
+        Update(ReadOnlyTask target, ReadOnlyTask editedTask) {
+            this.target = target;
+            this.editedTask = editedTask;
+        }
+
+        @Override
+        void applyTo(TaskManager taskManager) throws DuplicateTaskException, TaskNotFoundException {
+            taskManager.updateTask(taskManager.indexOfTask(target), editedTask);
+        }
+
+        @Override
+        public String toString() {
+            return "update " + target.getName();
+        }
+    }
+}
@@ -1,4 +1,3 @@
-
 package seedu.taskmanager.model;
 
 // @@author A0140538J
@@ -9,4 +8,9 @@ public interface TaskNotifier {
      */
     void setNotification(String duration);
 
+    /**
+     * Returns the length of the notification period in milliseconds, as measured when it was set.
+     */
+    long getNotificationWindow();
+
 }
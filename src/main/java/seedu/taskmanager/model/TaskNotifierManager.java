@@ -1,8 +1,5 @@
-
 package seedu.taskmanager.model;
 
-import java.util.Date;
-
 import seedu.taskmanager.commons.exceptions.IllegalValueException;
 import seedu.taskmanager.logic.parser.DateTimeUtil;
 
@@ -14,7 +11,8 @@ public class TaskNotifierManager implements TaskNotifier {
     public UserPrefs userprefs;
 
     public static String notificationSetting = DEFAULT_NOTIFICATION;
-    public static Date dateHelper;
+
+    private long notificationWindow;
 
     public TaskNotifierManager(UserPrefs userprefs) {
         this.userprefs = userprefs;
@@ -27,14 +25,15 @@ public class TaskNotifierManager implements TaskNotifier {
         userprefs.setNotificationSettings(duration);
 
         try {
-            dateHelper = setDateHelper();
+            notificationWindow = DateTimeUtil.parseDateTime(notificationSetting).getTime() - System.currentTimeMillis();
         } catch (IllegalValueException ive) {
         }
 
     }
 
-    private Date setDateHelper() throws IllegalValueException {
-        return DateTimeUtil.parseDateTime(notificationSetting).getTaskDate();
+    @Override
+    public long getNotificationWindow() {
+        return notificationWindow;
     }
 
 }
@@ -0,0 +1,272 @@
+package seedu.taskmanager.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/**
+ * An immutable query over the tasks of a {@link TaskManager}, made up of criteria that must all hold. Every criterion
+ * is answered by one of the task manager's indices, and its arguments are resolved when the query is built, so
+ * running a query never parses dates or splits task names. A query is run by scanning the candidates of its most
+ * selective criterion and checking every criterion against each of them.
+ */
+public final class TaskQuery {
+
+    /** A query that matches no task. */
+    public static final TaskQuery NONE = new TaskQuery(Collections.singletonList(new NoneCriterion()));
+
+    private final List<Criterion> criteria;
+
+    private TaskQuery(List<Criterion> criteria) {
+        this.criteria = criteria;
+    }
+
+    /**
+     * Returns a query for the tasks of a task type or done status, as named by the {@code CommonStringUtil}
+     * constants.
+     */
+    public static TaskQuery inCategory(String category) {
+        return new TaskQuery(Collections.singletonList(new CategoryCriterion(category)));
+    }
+
+    /**
+     * Returns a query for the tasks that start or end on {@code epochDay}.
+     * @see seedu.taskmanager.model.task.TaskDate#getEpochDay()
+     */
+    public static TaskQuery onDay(long epochDay) {
+        return new TaskQuery(Collections.singletonList(new DayCriterion(epochDay)));
+    }
+
+    /**
+     * Returns a query for the tasks whose names contain, ignoring case, every word of at least one of
+     * {@code wordGroups}.
+     */
+    public static TaskQuery withWords(List<Set<String>> wordGroups) {
+        assert !wordGroups.isEmpty();
+        List<List<String>> normalizedGroups = wordGroups.stream()
+                .map(group -> group.stream().map(word -> word.toLowerCase(Locale.ROOT)).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+        return new TaskQuery(Collections.singletonList(new WordCriterion(normalizedGroups)));
+    }
+
+    /**
+     * Returns a query for the tasks tagged with {@code tag}.
+     */
+    public static TaskQuery withTag(Tag tag) {
+        assert tag != null;
+        return new TaskQuery(Collections.singletonList(new TagCriterion(tag)));
+    }
+
+    /**
+     * Returns a query for the tasks matching both this query and {@code other}.
+     */
+    public TaskQuery and(TaskQuery other) {
+        List<Criterion> combined = new ArrayList<>(criteria);
+        combined.addAll(other.criteria);
+        return new TaskQuery(Collections.unmodifiableList(combined));
+    }
+
+    /**
+     * Returns the tasks in {@code taskManager} that match this query, as a set compared by identity.
+     */
+    Set<ReadOnlyTask> execute(TaskManager taskManager) {
+        Criterion mostSelective = criteria.stream()
+                .min(Comparator.comparingInt(criterion -> criterion.estimateCandidateCount(taskManager))).get();
+
+        Set<ReadOnlyTask> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ReadOnlyTask candidate : mostSelective.getCandidates(taskManager)) {
+            if (matchesAllCriteria(taskManager, candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private boolean matchesAllCriteria(TaskManager taskManager, ReadOnlyTask task) {
+        for (Criterion criterion : criteria) {
+            if (!criterion.matches(taskManager, task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return criteria.stream().map(Object::toString).collect(Collectors.joining(" and "));
+    }
+
+    /**
+     * A condition on a task that can be answered from an index of a task manager.
+     */
+    private interface Criterion {
+        /**
+         * Returns a cheaply computed upper bound on the number of tasks in {@code taskManager} that match.
+         */
+        int estimateCandidateCount(TaskManager taskManager);
+
+        /**
+         * Returns a set of tasks in {@code taskManager} that includes every task that matches.
+         */
+        Set<ReadOnlyTask> getCandidates(TaskManager taskManager);
+
+        boolean matches(TaskManager taskManager, ReadOnlyTask task);
+    }
+
+    private static class NoneCriterion implements Criterion {
+        @Override
+        public int estimateCandidateCount(TaskManager taskManager) {
+            return 0;
+        }
+
+        @Override
+        public Set<ReadOnlyTask> getCandidates(TaskManager taskManager) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean matches(TaskManager taskManager, ReadOnlyTask task) {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "none";
+        }
+    }
+
+    private static class CategoryCriterion implements Criterion {
+        private final String category;
+
+        CategoryCriterion(String category) {
+            this.category = category;
+        }
+
+        @Override
+        public int estimateCandidateCount(TaskManager taskManager) {
+            return taskManager.getTasksInCategory(category).size();
+        }
+
+        @Override
+        public Set<ReadOnlyTask> getCandidates(TaskManager taskManager) {
+            return taskManager.getTasksInCategory(category);
+        }
+
+        @Override
+        public boolean matches(TaskManager taskManager, ReadOnlyTask task) {
+            return taskManager.getTasksInCategory(category).contains(task);
+        }
+
+        @Override
+        public String toString() {
+            return category;
+        }
+    }
+
+    private static class DayCriterion implements Criterion {
+        private final long epochDay;
+
+        DayCriterion(long epochDay) {
+            this.epochDay = epochDay;
+        }
+
+        @Override
+        public int estimateCandidateCount(TaskManager taskManager) {
+            return taskManager.getTasksOnDay(epochDay).size();
+        }
+
+        @Override
+        public Set<ReadOnlyTask> getCandidates(TaskManager taskManager) {
+            return taskManager.getTasksOnDay(epochDay);
+        }
+
+        @Override
+        public boolean matches(TaskManager taskManager, ReadOnlyTask task) {
+            return taskManager.getTasksOnDay(epochDay).contains(task);
+        }
+
+        @Override
+        public String toString() {
+            return "day=" + epochDay;
+        }
+    }
+
+    private static class TagCriterion implements Criterion {
+        private final Tag tag;
+
+        TagCriterion(Tag tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public int estimateCandidateCount(TaskManager taskManager) {
+            return taskManager.getTasksWithTag(tag).size();
+        }
+
+        @Override
+        public Set<ReadOnlyTask> getCandidates(TaskManager taskManager) {
+            return taskManager.getTasksWithTag(tag);
+        }
+
+        @Override
+        public boolean matches(TaskManager taskManager, ReadOnlyTask task) {
+            return taskManager.getTasksWithTag(tag).contains(task);
+        }
+
+        @Override
+        public String toString() {
+            return "tag=" + tag.tagName;
+        }
+    }
+
+    /**
+     * Matches tasks whose names contain all the words of any one word group. The candidates are the union, over all
+     * groups, of the smallest posting list of each group.
+     */
+    private static class WordCriterion implements Criterion {
+        private final List<List<String>> wordGroups;
+
+        WordCriterion(List<List<String>> wordGroups) {
+            this.wordGroups = wordGroups;
+        }
+
+        @Override
+        public int estimateCandidateCount(TaskManager taskManager) {
+            return wordGroups.stream().mapToInt(group -> getSmallestPostings(taskManager, group).size()).sum();
+        }
+
+        @Override
+        public Set<ReadOnlyTask> getCandidates(TaskManager taskManager) {
+            Set<ReadOnlyTask> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            wordGroups.forEach(group -> candidates.addAll(getSmallestPostings(taskManager, group)));
+            return candidates;
+        }
+
+        @Override
+        public boolean matches(TaskManager taskManager, ReadOnlyTask task) {
+            return wordGroups.stream().anyMatch(group -> containsAllWords(taskManager, group, task));
+        }
+
+        private static boolean containsAllWords(TaskManager taskManager, List<String> group, ReadOnlyTask task) {
+            return group.stream().allMatch(word -> taskManager.getTasksWithWord(word).contains(task));
+        }
+
+        private static Set<ReadOnlyTask> getSmallestPostings(TaskManager taskManager, List<String> group) {
+            return group.stream().map(taskManager::getTasksWithWord).min(Comparator.comparingInt(Set::size)).get();
+        }
+
+        @Override
+        public String toString() {
+            return "name=" + wordGroups.stream().map(group -> String.join(" & ", group))
+                    .collect(Collectors.joining(", "));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.taskmanager.model;
+
+import java.util.Comparator;
+
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/**
+ * The orders in which the task list can be shown. Tasks without the date being sorted on come last, and tasks with
+ * the same date are ordered by name.
+ */
+public enum TaskSortOrder {
+
+    /** The order in which the tasks are stored. */
+    NONE("none", null),
+    END_DATE("deadline", Comparator.comparingLong(TaskSortOrder::getEndTimeOrLast).thenComparing(byName())),
+    START_DATE("start", Comparator.comparingLong(TaskSortOrder::getStartTimeOrLast).thenComparing(byName())),
+    NAME("name", byName());
+
+    private final String keyword;
+    private final Comparator<ReadOnlyTask> comparator;
+
+    private TaskSortOrder(String keyword, Comparator<ReadOnlyTask> comparator) {
+        this.keyword = keyword;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the sort order named by {@code keyword}, ignoring case, or null if there is none.
+     */
+    public static TaskSortOrder fromKeyword(String keyword) {
+        for (TaskSortOrder order : values()) {
+            if (order.keyword.equalsIgnoreCase(keyword)) {
+                return order;
+            }
+        }
+        return null;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the comparator for this order, or null for {@link #NONE}.
+     */
+    public Comparator<ReadOnlyTask> getComparator() {
+        return comparator;
+    }
+
+    private static Comparator<ReadOnlyTask> byName() {
+        return Comparator.comparing(task -> task.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    private static long getEndTimeOrLast(ReadOnlyTask task) {
+        return task.hasEndDate() ? task.getEndDate().getTime() : Long.MAX_VALUE;
+    }
+
+    private static long getStartTimeOrLast(ReadOnlyTask task) {
+        return task.hasStartDate() ? task.getStartDate().getTime() : Long.MAX_VALUE;
+    }
+}
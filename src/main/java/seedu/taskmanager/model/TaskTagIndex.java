@@ -0,0 +1,50 @@
+package seedu.taskmanager.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/**
+ * An index from a tag to the tasks that have it, holding a posting list only for the tags some task has.
+ */
+class TaskTagIndex {
+
+    private final Map<Tag, Set<ReadOnlyTask>> tasksByTag = new HashMap<>();
+
+    public void add(ReadOnlyTask task) {
+        for (Tag tag : task.getTagSet()) {
+            getOrCreatePostings(tag).add(task);
+        }
+    }
+
+    public void remove(ReadOnlyTask task) {
+        for (Tag tag : task.getTagSet()) {
+            Set<ReadOnlyTask> postings = tasksByTag.get(tag);
+            if (postings != null && postings.remove(task) && postings.isEmpty()) {
+                tasksByTag.remove(tag);
+            }
+        }
+    }
+
+    public void clear() {
+        tasksByTag.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the tasks tagged with {@code tag}, which is only valid until the index next
+     * changes.
+     */
+    public Set<ReadOnlyTask> getTasksWithTag(Tag tag) {
+        Set<ReadOnlyTask> postings = tasksByTag.get(tag);
+        return postings == null ? Collections.emptySet() : Collections.unmodifiableSet(postings);
+    }
+
+    private Set<ReadOnlyTask> getOrCreatePostings(Tag tag) {
+        return tasksByTag.computeIfAbsent(tag, key -> Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+}
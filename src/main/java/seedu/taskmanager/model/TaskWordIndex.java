@@ -0,0 +1,59 @@
+package seedu.taskmanager.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.taskmanager.model.task.ReadOnlyTask;
+
+/**
+ * An inverted index from a lower-cased word to the tasks whose names contain that word. A word has a posting list only
+ * while some task name contains it, so searching for words that match nothing adds nothing.
+ */
+class TaskWordIndex {
+
+    private final Map<String, Set<ReadOnlyTask>> tasksByWord = new HashMap<>();
+
+    public void add(ReadOnlyTask task) {
+        for (String word : toWords(task)) {
+            getOrCreatePostings(word).add(task);
+        }
+    }
+
+    public void remove(ReadOnlyTask task) {
+        for (String word : toWords(task)) {
+            Set<ReadOnlyTask> postings = tasksByWord.get(word);
+            if (postings != null && postings.remove(task) && postings.isEmpty()) {
+                tasksByWord.remove(word);
+            }
+        }
+    }
+
+    public void clear() {
+        tasksByWord.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the tasks whose names contain {@code word}, ignoring case, which is only valid
+     * until the index next changes.
+     */
+    public Set<ReadOnlyTask> getTasksWithWord(String word) {
+        Set<ReadOnlyTask> postings = tasksByWord.get(normalize(word));
+        return postings == null ? Collections.emptySet() : Collections.unmodifiableSet(postings);
+    }
+
+    private Set<ReadOnlyTask> getOrCreatePostings(String word) {
+        return tasksByWord.computeIfAbsent(word, key -> Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static String[] toWords(ReadOnlyTask task) {
+        return normalize(task.getName().fullName).split("\\s+");
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
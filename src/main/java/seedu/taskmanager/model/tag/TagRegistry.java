@@ -0,0 +1,101 @@
+package seedu.taskmanager.model.tag;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.taskmanager.commons.core.UnmodifiableObservableList;
+import seedu.taskmanager.commons.util.CollectionUtil;
+import seedu.taskmanager.model.tag.UniqueTagList.DuplicateTagException;
+
+/**
+ * The master list of tags, which interns tags so that equal tags across tasks share one {@link Tag} object. Unlike
+ * {@link UniqueTagList}, looking up or adding a tag takes O(1) time. Tags are kept in the order they were added.
+ */
+public class TagRegistry implements Iterable<Tag> {
+
+    private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    private final Map<Tag, Tag> internedTags = new HashMap<>();
+
+    /**
+     * Returns the registered tag equal to {@code tag}, first registering {@code tag} itself if there is none.
+     */
+    public Tag intern(Tag tag) {
+        assert tag != null;
+        Tag internedTag = internedTags.putIfAbsent(tag, tag);
+        if (internedTag != null) {
+            return internedTag;
+        }
+        internalList.add(tag);
+        return tag;
+    }
+
+    /**
+     * Returns true if the registry contains a tag equal to the given argument.
+     */
+    public boolean contains(Tag toCheck) {
+        assert toCheck != null;
+        return internedTags.containsKey(toCheck);
+    }
+
+    /**
+     * Adds a Tag to the registry.
+     * @throws DuplicateTagException
+     *         if the Tag to add is a duplicate of an existing Tag in the registry.
+     */
+    public void add(Tag toAdd) throws DuplicateTagException {
+        if (contains(toAdd)) {
+            throw new DuplicateTagException();
+        }
+        intern(toAdd);
+    }
+
+    /**
+     * Replaces the tags in the registry with {@code tags}.
+     * @throws DuplicateTagException
+     *         if {@code tags} contains duplicates, in which case the registry is left unchanged.
+     */
+    public void setTags(Collection<Tag> tags) throws DuplicateTagException {
+        assert !CollectionUtil.isAnyNull(tags);
+        Map<Tag, Tag> replacement = new HashMap<>();
+        for (Tag tag : tags) {
+            if (replacement.put(tag, tag) != null) {
+                throw new DuplicateTagException();
+            }
+        }
+        internedTags.clear();
+        internedTags.putAll(replacement);
+        internalList.setAll(tags);
+    }
+
+    public int size() {
+        return internalList.size();
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return internalList.iterator();
+    }
+
+    public UnmodifiableObservableList<Tag> asObservableList() {
+        return new UnmodifiableObservableList<>(internalList);
+    }
+
+    /**
+     * Returns true if both registries contain equal tags, in any order.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagRegistry // instanceof handles nulls
+                        && this.internedTags.keySet().equals(((TagRegistry) other).internedTags.keySet()));
+    }
+
+    @Override
+    public int hashCode() {
+        return internedTags.keySet().hashCode();
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.taskmanager.model.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * An immutable, indexed sequence of tasks backed by an implicit treap. Every update returns a new list that shares
+ * all but O(log n) of its nodes with the original, so keeping old versions around costs only as much as the changes
+ * made since. The tasks themselves are shared too, and must not be modified once added.
+ */
+public final class PersistentTaskList implements Iterable<Task> {
+
+    public static final PersistentTaskList EMPTY = new PersistentTaskList(null);
+
+    private static final Random random = new Random();
+
+    private final Node root;
+
+    private PersistentTaskList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a list of the given tasks in order. Takes O(n log n) time.
+     */
+    public static PersistentTaskList of(List<Task> tasks) {
+        int[] priorities = random.ints(tasks.size()).toArray();
+        Arrays.sort(priorities);
+        return new PersistentTaskList(build(tasks, 0, tasks.size(), priorities, new int[] {priorities.length}));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} < 0 or >= the size of the list.
+     */
+    public Task get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.task;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code task} appended.
+     */
+    public PersistentTaskList add(Task task) {
+        assert task != null;
+        return new PersistentTaskList(merge(root, new Node(task, random.nextInt())));
+    }
+
+    /**
+     * Returns a list with {@code task} inserted at position {@code index}.
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} < 0 or > the size of the list.
+     */
+    public PersistentTaskList add(int index, Task task) {
+        assert task != null;
+        checkIndex(index, size() + 1);
+        Node[] beforeAndFrom = split(root, index);
+        Node inserted = merge(beforeAndFrom[0], new Node(task, random.nextInt()));
+        return new PersistentTaskList(merge(inserted, beforeAndFrom[1]));
+    }
+
+    /**
+     * Returns a list with the task at {@code index} replaced by {@code task}.
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} < 0 or >= the size of the list.
+     */
+    public PersistentTaskList set(int index, Task task) {
+        assert task != null;
+        checkIndex(index, size());
+        return new PersistentTaskList(setInTree(root, index, task));
+    }
+
+    /**
+     * Returns a list with the task at {@code index} removed.
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} < 0 or >= the size of the list.
+     */
+    public PersistentTaskList remove(int index) {
+        checkIndex(index, size());
+        Node[] beforeAndFrom = split(root, index);
+        Node[] removedAndAfter = split(beforeAndFrom[1], 1);
+        return new PersistentTaskList(merge(beforeAndFrom[0], removedAndAfter[1]));
+    }
+
+    /**
+     * Returns the tasks in this list as an unmodifiable {@code List}. Takes O(n) time.
+     */
+    public List<Task> toList() {
+        List<Task> tasks = new ArrayList<>(size());
+        forEach(tasks::add);
+        return Collections.unmodifiableList(tasks);
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<Task>() {
+            private final List<Node> path = new ArrayList<>();
+            private Node next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (next != null) {
+                    path.add(next);
+                    next = next.left;
+                }
+                Node node = path.remove(path.size() - 1);
+                next = node.right;
+                return node.task;
+            }
+        };
+    }
+
+    //// treap operations
+
+    /**
+     * Builds a balanced tree of {@code tasks[from, to)}, handing out {@code sortedPriorities} from the largest down in
+     * pre-order so that every node outranks its descendants.
+     */
+    private static Node build(List<Task> tasks, int from, int to, int[] sortedPriorities, int[] remaining) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        int priority = sortedPriorities[--remaining[0]];
+        Node left = build(tasks, from, mid, sortedPriorities, remaining);
+        Node right = build(tasks, mid + 1, to, sortedPriorities, remaining);
+        return new Node(tasks.get(mid), priority, left, right);
+    }
+
+    private static Node setInTree(Node node, int index, Task task) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return node.withChildren(setInTree(node.left, index, task), node.right);
+        } else if (index > leftSize) {
+            return node.withChildren(node.left, setInTree(node.right, index - leftSize - 1, task));
+        } else {
+            return new Node(task, node.priority, node.left, node.right);
+        }
+    }
+
+    /**
+     * Splits {@code node} into a tree of its first {@code count} tasks and a tree of the rest.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Node[] parts = split(node.left, count);
+            return new Node[] {parts[0], node.withChildren(parts[1], node.right)};
+        } else {
+            Node[] parts = split(node.right, count - leftSize - 1);
+            return new Node[] {node.withChildren(node.left, parts[0]), parts[1]};
+        }
+    }
+
+    /**
+     * Joins two trees, with every task of {@code left} ordered before every task of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority >= right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        } else {
+            return right.withChildren(merge(left, right.left), right.right);
+        }
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static class Node {
+        private final Task task;
+        private final int priority;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        Node(Task task, int priority) {
+            this(task, priority, null, null);
+        }
+
+        Node(Task task, int priority, Node left, Node right) {
+            this.task = task;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+
+        Node withChildren(Node newLeft, Node newRight) {
+            return new Node(task, priority, newLeft, newRight);
+        }
+    }
+}
@@ -2,7 +2,9 @@
 package seedu.taskmanager.model.task;
 
 import java.util.Optional;
+import java.util.Set;
 
+import seedu.taskmanager.model.tag.Tag;
 import seedu.taskmanager.model.tag.UniqueTagList;
 
 /**
@@ -33,11 +35,19 @@ public interface ReadOnlyTask {
 
     boolean isDueSoon();
 
+    /**
+     * Returns the task's tags, in the order they were added, as an unmodifiable set that may be shared with the task.
+     * Reading the tags this way allocates nothing.
+     */
+    Set<Tag> getTagSet();
+
     /**
      * The returned TagList is a deep copy of the internal TagList, changes on the returned list will not affect the
-     * task's internal tags.
+     * task's internal tags. Use {@link #getTagSet()} to only read the tags.
      */
-    UniqueTagList getTags();
+    default UniqueTagList getTags() {
+        return new UniqueTagList(getTagSet());
+    }
 
     /**
      * Returns true if both have the same state. (interfaces cannot override .equals)
@@ -67,7 +77,7 @@ public interface ReadOnlyTask {
         }
 
         builder.append("Tags: ");
-        getTags().forEach(builder::append);
+        getTagSet().forEach(builder::append);
 
         return builder.toString();
     }
@@ -1,73 +1,82 @@
-
 package seedu.taskmanager.model.task;
 
-import static org.junit.Assert.assertNotNull;
-
-import java.util.Date;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 
 import seedu.taskmanager.commons.util.CollectionUtil;
-import seedu.taskmanager.commons.util.NotificationUtil;
+import seedu.taskmanager.model.tag.Tag;
 import seedu.taskmanager.model.tag.UniqueTagList;
 
 /**
  * Represents a Task in the task manager. Guarantees: details are present and not null, field values are validated.
+ * Tasks are immutable, so edits, including changes of the due soon status as time passes, build new tasks with
+ * {@link Builder}, which share the details that did not change, including the tags.
  */
 public class Task implements ReadOnlyTask {
 
-    private Name name;
+    private final Name name;
     // @@author A0140417R
-    private Optional<TaskDate> startDate, endDate;
-    private UniqueTagList tags;
-    private boolean isDoneStatus;
-    private boolean isDueSoonStatus;
+    private final TaskDate startDate;
+    private final TaskDate endDate;
+    /** Unmodifiable, so it is shared with tasks built from this one rather than copied. */
+    private final Set<Tag> tags;
+    private final boolean isDoneStatus;
+    private final boolean isDueSoonStatus;
 
     public Task(Name name, TaskDate startDate, TaskDate endDate, UniqueTagList tags, boolean status,
             boolean dueSoonStatus) {
-        assert !CollectionUtil.isAnyNull(name, tags);
-        this.name = name;
-        this.startDate = Optional.ofNullable(startDate);
-        this.endDate = Optional.ofNullable(endDate);
-        this.tags = new UniqueTagList(tags); // protect internal tags from
-                                             // changes in the arg list
-        this.isDoneStatus = status;
-        this.isDueSoonStatus = dueSoonStatus;
-        setDueSoonStatus();
+        this(name, startDate, endDate, copyOf(tags), status, dueSoonStatus);
     }
 
     public Task(Name name, TaskDate startDate, TaskDate endDate, UniqueTagList tags, boolean status) {
         this(name, startDate, endDate, tags, status, false);
-        setDueSoonStatus();
     }
 
     // @@author A0140538J
     public Task(Name name, TaskDate startDate, TaskDate endDate, UniqueTagList tags) {
         this(name, startDate, endDate, tags, false);
-        setDueSoonStatus();
     }
 
     public Task(Name name, UniqueTagList tags) {
         this(name, null, null, tags, false);
-        setDueSoonStatus();
-    }
-
-    public Task(Name name, Optional<TaskDate> startDate, Optional<TaskDate> endDate, UniqueTagList tags) {
-        this(name, startDate.orElse(null), endDate.orElse(null), tags, false);
-        setDueSoonStatus();
     }
 
     /**
-     * Creates a copy of the given ReadOnlyTask.
+     * Creates a copy of the given ReadOnlyTask. The tags of another {@code Task} are shared rather than copied.
      */
     public Task(ReadOnlyTask source) {
-        this(source.getName(), source.getStartDate(), source.getEndDate(), source.getTags(), source.isDone(),
+        this(source.getName(), source.getStartDate(), source.getEndDate(), sharedTagsOf(source), source.isDone(),
                 source.isDueSoon());
     }
 
-    public void setName(Name name) {
-        assert name != null;
+    /**
+     * Creates a task with {@code tags}, which must be unmodifiable.
+     */
+    private Task(Name name, TaskDate startDate, TaskDate endDate, Set<Tag> tags, boolean status,
+            boolean dueSoonStatus) {
+        assert !CollectionUtil.isAnyNull(name, tags);
         this.name = name;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.tags = tags;
+        this.isDoneStatus = status;
+        this.isDueSoonStatus = dueSoonStatus;
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code tags}, in the same order.
+     */
+    private static Set<Tag> copyOf(Iterable<Tag> tags) {
+        assert tags != null;
+        Set<Tag> copy = new LinkedHashSet<>();
+        tags.forEach(copy::add);
+        return copy.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(copy);
+    }
+
+    private static Set<Tag> sharedTagsOf(ReadOnlyTask source) {
+        return source instanceof Task ? ((Task) source).tags : copyOf(source.getTagSet());
     }
 
     @Override
@@ -76,40 +85,24 @@ public class Task implements ReadOnlyTask {
     }
 
     // @@author A0140417R
-    public void setStartDate(TaskDate taskDate) {
-        this.startDate = Optional.ofNullable(taskDate);
-    }
-
     @Override
     public TaskDate getStartDate() {
-        return startDate.orElse(null);
-    }
-
-    public void removeStartDate() {
-        this.startDate = Optional.empty();
+        return startDate;
     }
 
     @Override
     public boolean hasStartDate() {
-        return startDate.isPresent();
-    }
-
-    public void setEndDate(TaskDate taskDate) {
-        this.endDate = Optional.ofNullable(taskDate);
+        return startDate != null;
     }
 
     @Override
     public TaskDate getEndDate() {
-        return endDate.orElse(null);
-    }
-
-    public void removeEndDate() {
-        this.endDate = Optional.empty();
+        return endDate;
     }
 
     @Override
     public boolean hasEndDate() {
-        return endDate.isPresent();
+        return endDate != null;
     }
 
     @Override
@@ -128,45 +121,15 @@ public class Task implements ReadOnlyTask {
     }
 
     public boolean isValidTask() {
-        return isFloating() || isDeadline()
-                || (isEvent() && startDate.get().getTaskDate().before(endDate.get().getTaskDate()));
+        return isFloating() || isDeadline() || (isEvent() && startDate.isBefore(endDate));
     }
 
     // @@author A0140538J
-    public void setDoneStatus(boolean status) {
-        this.isDoneStatus = status;
-    }
-
     @Override
     public boolean isDone() {
         return isDoneStatus;
     }
 
-    public void setDueSoonStatus() {
-        Date notificationDate = NotificationUtil.getNotificationDate();
-        if (isDoneStatus) {
-            this.isDueSoonStatus = false;
-            return;
-        }
-
-        if (notificationDate == null) {
-            this.isDueSoonStatus = false;
-            return;
-        }
-
-        if (this.hasStartDate() && getStartDate().getTaskDate().before(notificationDate)) {
-            this.isDueSoonStatus = true;
-            return;
-        }
-
-        if (this.hasEndDate() && getEndDate().getTaskDate().before(notificationDate)) {
-            this.isDueSoonStatus = true;
-            return;
-        }
-
-        this.isDueSoonStatus = false;
-    }
-
     @Override
     public boolean isDueSoon() {
         return isDueSoonStatus;
@@ -174,28 +137,8 @@ public class Task implements ReadOnlyTask {
     // @@author
 
     @Override
-    public UniqueTagList getTags() {
-        return new UniqueTagList(tags);
-    }
-
-    /**
-     * Replaces this task's tags with the tags in the argument tag list.
-     */
-    public void setTags(UniqueTagList replacement) {
-        tags.setTags(replacement);
-    }
-
-    /**
-     * Updates this task with the details of {@code replacement}.
-     */
-    public void resetData(ReadOnlyTask replacement) {
-        assertNotNull(replacement);
-
-        this.setName(replacement.getName());
-        this.setStartDate(replacement.getStartDate());
-        this.setEndDate(replacement.getEndDate());
-        this.setTags(replacement.getTags());
-        this.setDoneStatus(replacement.isDone());
+    public Set<Tag> getTagSet() {
+        return tags;
     }
 
     @Override
@@ -209,7 +152,7 @@ public class Task implements ReadOnlyTask {
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing
         // your own
-        return Objects.hash(name, tags);
+        return Objects.hash(name, startDate, endDate);
     }
 
     @Override
@@ -217,4 +160,71 @@ public class Task implements ReadOnlyTask {
         return getAsText();
     }
 
+    /**
+     * Builds a task from an existing one with some of its details changed. The details that are not changed are
+     * shared with the existing task.
+     */
+    public static class Builder {
+        private Name name;
+        private TaskDate startDate;
+        private TaskDate endDate;
+        private Set<Tag> tags;
+        private boolean isDoneStatus;
+        private boolean isDueSoonStatus;
+
+        public Builder(ReadOnlyTask source) {
+            assert source != null;
+            this.name = source.getName();
+            this.startDate = source.getStartDate();
+            this.endDate = source.getEndDate();
+            this.tags = sharedTagsOf(source);
+            this.isDoneStatus = source.isDone();
+            this.isDueSoonStatus = source.isDueSoon();
+        }
+
+        public Builder setName(Name name) {
+            assert name != null;
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the start date, or removes it if {@code startDate} is null.
+         */
+        public Builder setStartDate(TaskDate startDate) {
+            this.startDate = startDate;
+            return this;
+        }
+
+        /**
+         * Sets the end date, or removes it if {@code endDate} is null.
+         */
+        public Builder setEndDate(TaskDate endDate) {
+            this.endDate = endDate;
+            return this;
+        }
+
+        public Builder setTags(Iterable<Tag> tags) {
+            this.tags = copyOf(tags);
+            return this;
+        }
+
+        public Builder setDoneStatus(boolean status) {
+            this.isDoneStatus = status;
+            return this;
+        }
+
+        /**
+         * Sets whether the task is due soon. The status is derived from the current time and the notification window,
+         * and is kept up to date by the task manager holding the task.
+         */
+        public Builder setDueSoonStatus(boolean status) {
+            this.isDueSoonStatus = status;
+            return this;
+        }
+
+        public Task build() {
+            return new Task(name, startDate, endDate, tags, isDoneStatus, isDueSoonStatus);
+        }
+    }
 }
@@ -4,44 +4,90 @@ package seedu.taskmanager.model.task;
 
 import static org.junit.Assert.assertNotNull;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Date;
 
 import seedu.taskmanager.logic.parser.DateTimeUtil;
 
 /**
- * Represents a Task's name in the task manager. Guarantees: immutable; is valid as declared in
- * {@link #isValidName(String)}
+ * Represents a Task's date in the task manager. Guarantees: immutable. The date is held as milliseconds since the
+ * epoch, so comparing two dates allocates nothing, and equal dates always have equal hash codes.
  */
-public class TaskDate {
+public class TaskDate implements Comparable<TaskDate> {
 
-    private final Date taskDate;
+    private final long epochMillis;
+    private final long epochDay;
     private final boolean hasTime;
 
+    /** The displayed form of this date, formatted on first use. */
+    private String displayString;
+
     public TaskDate(Date date, boolean hasTime) {
-        assertNotNull(date);
-        this.taskDate = date;
+        this(getTimeOf(date), hasTime);
+    }
+
+    public TaskDate(long epochMillis, boolean hasTime) {
+        this.epochMillis = epochMillis;
+        this.epochDay = Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
         this.hasTime = hasTime;
     }
 
+    private static long getTimeOf(Date date) {
+        assertNotNull(date);
+        return date.getTime();
+    }
+
     public boolean hasTime() {
         return hasTime;
     }
 
+    /**
+     * Returns a new {@code Date} for this date. Prefer {@link #getTime()} and the comparison methods, which do not
+     * allocate.
+     */
     public Date getTaskDate() {
-        return taskDate;
+        return new Date(epochMillis);
+    }
+
+    /**
+     * Returns the number of milliseconds since the epoch.
+     */
+    public long getTime() {
+        return epochMillis;
+    }
+
+    /**
+     * Returns the number of days from the epoch to this date in the default time zone, the same zone used to
+     * display the date.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    public boolean isBefore(TaskDate other) {
+        return epochMillis < other.epochMillis;
+    }
+
+    public boolean isAfter(TaskDate other) {
+        return epochMillis > other.epochMillis;
+    }
+
+    @Override
+    public int compareTo(TaskDate other) {
+        return Long.compare(epochMillis, other.epochMillis);
     }
 
     // toString method for taskDate
     // @return date with no time element if there is no explicit time
     @Override
     public String toString() {
-        String toBeDisplayed;
-        if (!hasTime) {
-            toBeDisplayed = DateTimeUtil.getOnlyDateStringFromDate(taskDate);
-        } else {
-            toBeDisplayed = DateTimeUtil.getStringFromDate(taskDate);
+        if (displayString == null) {
+            Date date = new Date(epochMillis);
+            displayString = hasTime ? DateTimeUtil.getStringFromDate(date)
+                                    : DateTimeUtil.getOnlyDateStringFromDate(date);
         }
-        return toBeDisplayed;
+        return displayString;
     }
 
     @Override
@@ -49,8 +95,13 @@ public class TaskDate {
 
         return other == this // short circuit if same object
                 || (other instanceof TaskDate // instanceof handles nulls
-                        && this.taskDate.equals(((TaskDate) other).taskDate)); // state
+                        && this.epochMillis == ((TaskDate) other).epochMillis); // state
         // check
     }
 
+    @Override
+    public int hashCode() {
+        return Long.hashCode(epochMillis);
+    }
+
 }
@@ -3,8 +3,12 @@ package seedu.taskmanager.model.task;
 
 import static org.junit.Assert.assertNotNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,20 +18,44 @@ import seedu.taskmanager.commons.util.CollectionUtil;
 
 /**
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls. Supports a minimal set of
- * list operations.
+ * list operations. Uniqueness is checked against a hash index kept in sync with the list, keyed on the same fields as
+ * {@link ReadOnlyTask#isSameStateAs(ReadOnlyTask)} and holding the position of each task, so neither duplicate checks
+ * nor finding a task scan the list. A
+ * {@link PersistentTaskList} is also kept in step with the list, so a snapshot of it can be taken in O(1). Tasks are
+ * never modified once added; updates replace them instead.
  * @see Task#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final Map<TaskKey, Integer> keyIndex = new HashMap<>();
+    private PersistentTaskList persistentList = PersistentTaskList.EMPTY;
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(ReadOnlyTask toCheck) {
         assertNotNull(toCheck);
-        return internalList.contains(toCheck);
+        return keyIndex.containsKey(new TaskKey(toCheck));
+    }
+
+    /**
+     * Returns the task in the list that is equivalent to the given argument, if any.
+     */
+    public Optional<Task> getEquivalentTask(ReadOnlyTask toFind) {
+        assertNotNull(toFind);
+        Integer index = keyIndex.get(new TaskKey(toFind));
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the position of the task in the list that is equivalent to the given argument, or -1 if there is none.
+     */
+    public int indexOf(ReadOnlyTask toFind) {
+        assertNotNull(toFind);
+        Integer index = keyIndex.get(new TaskKey(toFind));
+        return index == null ? -1 : index;
     }
 
     /**
@@ -40,35 +68,47 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
+        keyIndex.put(new TaskKey(toAdd), internalList.size());
         internalList.add(toAdd);
+        persistentList = persistentList.add(toAdd);
+    }
+
+    /**
+     * Inserts a task into the list at position {@code index}.
+     * @throws DuplicateTaskException
+     *         if the task to add is a duplicate of an existing task in the list.
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} < 0 or > the size of the list.
+     */
+    public void add(int index, Task toAdd) throws DuplicateTaskException {
+        assertNotNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateTaskException();
+        }
+        internalList.add(index, toAdd);
+        updatePositionsFrom(index);
+        persistentList = persistentList.add(index, toAdd);
     }
 
     /**
-     * Updates the task in the list at position {@code index} with {@code editedTask}.
+     * Replaces the task in the list at position {@code index} with {@code editedTask}.
      * @throws DuplicateTaskException
      *         if updating the task's details causes the task to be equivalent to another existing task in the list.
      * @throws IndexOutOfBoundsException
      *         if {@code index} < 0 or >= the size of the list.
      */
-    public void updateTask(int index, ReadOnlyTask editedTask) throws DuplicateTaskException {
+    public void updateTask(int index, Task editedTask) throws DuplicateTaskException {
         assertNotNull(editedTask);
 
         Task taskToUpdate = internalList.get(index);
-        if (taskToUpdate.isDone() == editedTask.isDone() && !taskToUpdate.equals(editedTask)
-                && internalList.contains(editedTask)) {
+        if (!taskToUpdate.isSameStateAs(editedTask) && contains(editedTask)) {
             throw new DuplicateTaskException();
         }
 
-        taskToUpdate.resetData(editedTask);
-        // TODO: The code below is just a workaround to notify observers of the
-        // updated task.
-        // The right way is to implement observable properties in the Task
-        // class.
-        // Then, TaskCard should then bind its text labels to those observable
-        // properties.
-        // internalList.remove(index);
-        // internalList.add(0, taskToUpdate);
-        internalList.set(index, taskToUpdate);
+        keyIndex.remove(new TaskKey(taskToUpdate));
+        keyIndex.put(new TaskKey(editedTask), index);
+        internalList.set(index, editedTask);
+        persistentList = persistentList.set(index, editedTask);
     }
 
     /**
@@ -78,25 +118,73 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean remove(ReadOnlyTask toRemove) throws TaskNotFoundException {
         assertNotNull(toRemove);
-        final boolean taskFoundAndDeleted = internalList.remove(toRemove);
-        if (!taskFoundAndDeleted) {
+        final int index = indexOf(toRemove);
+        if (index < 0) {
             throw new TaskNotFoundException();
         }
-        return taskFoundAndDeleted;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the task at position {@code index} from the list and returns it.
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} < 0 or >= the size of the list.
+     */
+    public Task remove(int index) {
+        final Task taskToRemove = internalList.remove(index);
+        keyIndex.remove(new TaskKey(taskToRemove));
+        updatePositionsFrom(index);
+        persistentList = persistentList.remove(index);
+        return taskToRemove;
+    }
+
+    /**
+     * Updates the positions held by the index for the tasks from position {@code index} to the end of the list.
+     */
+    private void updatePositionsFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            keyIndex.put(new TaskKey(internalList.get(i)), i);
+        }
     }
 
     public void setTasks(UniqueTaskList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.keyIndex.clear();
+        this.keyIndex.putAll(replacement.keyIndex);
+        this.persistentList = replacement.persistentList;
+    }
+
+    /**
+     * Replaces the contents of this list with the tasks in {@code snapshot}. The tasks are shared, not copied.
+     */
+    public void setTasks(PersistentTaskList snapshot) {
+        this.internalList.setAll(snapshot.toList());
+        this.keyIndex.clear();
+        updatePositionsFrom(0);
+        this.persistentList = snapshot;
     }
 
     public void setTasks(List<? extends ReadOnlyTask> tasks) throws DuplicateTaskException {
         final UniqueTaskList replacement = new UniqueTaskList();
         for (final ReadOnlyTask task : tasks) {
-            replacement.add(new Task(task));
+            final Task copy = new Task(task);
+            if (replacement.keyIndex.putIfAbsent(new TaskKey(copy), replacement.internalList.size()) != null) {
+                throw new DuplicateTaskException();
+            }
+            replacement.internalList.add(copy);
         }
+        replacement.persistentList = PersistentTaskList.of(replacement.internalList);
         setTasks(replacement);
     }
 
+    /**
+     * Returns an immutable view of the current contents of this list. Takes O(1) time.
+     */
+    public PersistentTaskList getSnapshot() {
+        return persistentList;
+    }
+
     public UnmodifiableObservableList<Task> asObservableList() {
         return new UnmodifiableObservableList<>(internalList);
     }
@@ -118,6 +206,35 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalList.hashCode();
     }
 
+    /**
+     * Hash key of a task, made up of the fields compared by {@link ReadOnlyTask#isSameStateAs(ReadOnlyTask)}.
+     */
+    private static class TaskKey {
+        private final Name name;
+        private final TaskDate startDate;
+        private final TaskDate endDate;
+
+        TaskKey(ReadOnlyTask task) {
+            this.name = task.getName();
+            this.startDate = task.getStartDate();
+            this.endDate = task.getEndDate();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof TaskKey // instanceof handles nulls
+                            && name.equals(((TaskKey) other).name)
+                            && Objects.equals(startDate, ((TaskKey) other).startDate)
+                            && Objects.equals(endDate, ((TaskKey) other).endDate));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, startDate, endDate);
+        }
+    }
+
     /**
      * Signals that an operation would have violated the 'no duplicates' property of the list.
      */
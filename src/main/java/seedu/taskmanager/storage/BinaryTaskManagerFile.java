@@ -0,0 +1,497 @@
+package seedu.taskmanager.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.taskmanager.commons.core.UnmodifiableObservableList;
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.TaskDate;
+
+/**
+ * Task manager data in a compact binary file, laid out like a {@link seedu.taskmanager.model.ColumnarTaskManager}: a
+ * table of the distinct names and tag names, the master tag list as indices into it, the tasks column by column with
+ * fixed-width name indices, dates and flags, and each task's tags as indices into the tag list. Each of these sections
+ * is followed by its CRC-32.
+ * <p>
+ * An opened file is a read-only view of the file's bytes, read in one piece. The file is not memory-mapped, as a
+ * mapping stays open until it is garbage collected and Windows cannot replace a mapped file on the next save. Its
+ * checksums and indices are checked when it is opened, but the tasks in {@link #getTaskList()} are flyweights over
+ * their rows, whose names are only decoded when they are first read.
+ */
+final class BinaryTaskManagerFile implements ReadOnlyTaskManager {
+
+    private static final int MAGIC = 0x544d4246;
+    private static final int FORMAT_VERSION = 1;
+    /** Magic number, format version, task count and section count. */
+    private static final int HEADER_BYTES = 16;
+    private static final int STRINGS_SECTION = 0;
+    private static final int TAGS_SECTION = 1;
+    private static final int TASKS_SECTION = 2;
+    private static final int TASK_TAGS_SECTION = 3;
+    private static final int SECTION_COUNT = 4;
+    /** Name index, start date, end date and flags. */
+    private static final int TASK_ROW_BYTES = 4 + 8 + 8 + 1;
+
+    private static final int HAS_START_DATE = 1;
+    private static final int HAS_END_DATE = 1 << 1;
+    private static final int START_DATE_HAS_TIME = 1 << 2;
+    private static final int END_DATE_HAS_TIME = 1 << 3;
+    private static final int IS_DONE = 1 << 4;
+
+    private final int size;
+    private final ByteBuffer strings;
+    private final int stringCount;
+    private final ByteBuffer tasks;
+    /** The tags of task {@code i} are {@code tagTable[tagIds[j]]} for {@code tagOffsets[i] <= j < tagOffsets[i+1]}. */
+    private final ByteBuffer taskTags;
+    private final Tag[] tagTable;
+    /** The names decoded so far, by their index in the string table. */
+    private final Name[] names;
+    private final ObservableList<ReadOnlyTask> taskList;
+
+    private BinaryTaskManagerFile(ByteBuffer file) throws IllegalValueException {
+        if (file.limit() < HEADER_BYTES || file.getInt(0) != MAGIC || file.getInt(4) != FORMAT_VERSION
+                || file.getInt(12) != SECTION_COUNT) {
+            throw new IllegalValueException("Not a task manager file");
+        }
+        size = file.getInt(8);
+        ByteBuffer[] sections = readSections(file);
+        strings = sections[STRINGS_SECTION];
+        stringCount = checkStrings(strings);
+        tagTable = readTags(sections[TAGS_SECTION]);
+        tasks = sections[TASKS_SECTION];
+        taskTags = sections[TASK_TAGS_SECTION];
+        checkTasks();
+        names = new Name[stringCount];
+        taskList = new UnmodifiableObservableList<>(FXCollections.observableList(new TaskView()));
+    }
+
+    /**
+     * Opens the file at {@code path} by reading it into memory. The file is closed again once this returns.
+     * @throws IllegalValueException
+     *         if the file is not in the correct format, or is damaged.
+     */
+    static BinaryTaskManagerFile open(Path path) throws IOException, IllegalValueException {
+        if (Files.size(path) > Integer.MAX_VALUE) {
+            throw new IllegalValueException("Task manager file is too large");
+        }
+        return new BinaryTaskManagerFile(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
+
+    /**
+     * Writes {@code taskManager} to a temporary file, which then replaces the file at {@code path} in one step, so a
+     * save that fails part way leaves the previous file whole.
+     */
+    static void write(Path path, ReadOnlyTaskManager taskManager) throws IOException {
+        List<ReadOnlyTask> taskList = taskManager.getTaskList();
+        StringTable stringTable = new StringTable();
+        Map<Tag, Integer> tagIds = new HashMap<>();
+        List<Tag> tags = new ArrayList<>();
+        taskManager.getTagList().forEach(tag -> getTagId(tag, tagIds, tags));
+
+        ByteArrayOutputStream tasksBytes = new ByteArrayOutputStream(taskList.size() * TASK_ROW_BYTES);
+        DataOutputStream tasksOut = new DataOutputStream(tasksBytes);
+        for (ReadOnlyTask task : taskList) {
+            tasksOut.writeInt(stringTable.getId(task.getName().fullName));
+        }
+        for (ReadOnlyTask task : taskList) {
+            tasksOut.writeLong(task.hasStartDate() ? task.getStartDate().getTime() : 0);
+        }
+        for (ReadOnlyTask task : taskList) {
+            tasksOut.writeLong(task.hasEndDate() ? task.getEndDate().getTime() : 0);
+        }
+        for (ReadOnlyTask task : taskList) {
+            tasksOut.writeByte(flagsOf(task));
+        }
+
+        ByteArrayOutputStream taskTagsBytes = new ByteArrayOutputStream();
+        DataOutputStream taskTagsOut = new DataOutputStream(taskTagsBytes);
+        List<Integer> taskTagIds = new ArrayList<>();
+        taskTagsOut.writeInt(0);
+        for (ReadOnlyTask task : taskList) {
+            for (Tag tag : task.getTagSet()) {
+                taskTagIds.add(getTagId(tag, tagIds, tags));
+            }
+            taskTagsOut.writeInt(taskTagIds.size());
+        }
+        for (int tagId : taskTagIds) {
+            taskTagsOut.writeInt(tagId);
+        }
+
+        ByteArrayOutputStream tagsBytes = new ByteArrayOutputStream();
+        DataOutputStream tagsOut = new DataOutputStream(tagsBytes);
+        tagsOut.writeInt(tags.size());
+        for (Tag tag : tags) {
+            tagsOut.writeInt(stringTable.getId(tag.tagName));
+        }
+
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(tempPath.toFile())) {
+            DataOutputStream out = new DataOutputStream(file);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(taskList.size());
+            out.writeInt(SECTION_COUNT);
+            writeSection(out, stringTable.toBytes());
+            writeSection(out, tagsBytes.toByteArray());
+            writeSection(out, tasksBytes.toByteArray());
+            writeSection(out, taskTagsBytes.toByteArray());
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int getTagId(Tag tag, Map<Tag, Integer> tagIds, List<Tag> tags) {
+        return tagIds.computeIfAbsent(tag, newTag -> {
+            tags.add(newTag);
+            return tags.size() - 1;
+        });
+    }
+
+    private static int flagsOf(ReadOnlyTask task) {
+        int flags = 0;
+        if (task.hasStartDate()) {
+            flags |= HAS_START_DATE | (task.getStartDate().hasTime() ? START_DATE_HAS_TIME : 0);
+        }
+        if (task.hasEndDate()) {
+            flags |= HAS_END_DATE | (task.getEndDate().hasTime() ? END_DATE_HAS_TIME : 0);
+        }
+        return task.isDone() ? flags | IS_DONE : flags;
+    }
+
+    private static void writeSection(DataOutputStream out, byte[] section) throws IOException {
+        out.writeInt(section.length);
+        out.write(section);
+        out.writeInt(checksumOf(ByteBuffer.wrap(section)));
+    }
+
+    private static int checksumOf(ByteBuffer bytes) {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.duplicate());
+        return (int) checksum.getValue();
+    }
+
+    //// checks made when opening
+
+    /**
+     * Returns the sections that follow the header, each checked against its checksum.
+     */
+    private static ByteBuffer[] readSections(ByteBuffer file) throws IllegalValueException {
+        ByteBuffer[] sections = new ByteBuffer[SECTION_COUNT];
+        long position = HEADER_BYTES;
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            if (position + 4 > file.limit()) {
+                throw new IllegalValueException("Task manager file is cut short");
+            }
+            int length = file.getInt((int) position);
+            if (length < 0 || position + 4 + length + 4 > file.limit()) {
+                throw new IllegalValueException("Task manager file is cut short");
+            }
+            sections[i] = slice(file, (int) position + 4, length);
+            if (checksumOf(sections[i]) != file.getInt((int) position + 4 + length)) {
+                throw new IllegalValueException("Task manager file is damaged");
+            }
+            position += 4 + length + 4;
+        }
+        return sections;
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(offset);
+        duplicate.limit(offset + length);
+        return duplicate.slice();
+    }
+
+    /**
+     * Checks that every string in the table could be a task name, without decoding them, and returns their count.
+     */
+    private static int checkStrings(ByteBuffer strings) throws IllegalValueException {
+        int count = strings.getInt(0);
+        long dataStart = 4 + 4L * (count + 1);
+        if (count < 0 || dataStart > strings.limit() || strings.getInt(4) != 0) {
+            throw new IllegalValueException("Task manager file has a malformed string table");
+        }
+        int previousEnd = 0;
+        for (int i = 0; i < count; i++) {
+            int end = strings.getInt(4 + 4 * (i + 1));
+            if (end <= previousEnd || dataStart + end > strings.limit()) {
+                throw new IllegalValueException("Task manager file has a malformed string table");
+            }
+            boolean isBlank = true;
+            for (int j = previousEnd; j < end; j++) {
+                byte b = strings.get((int) dataStart + j);
+                if (b < 0) {
+                    throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+                }
+                isBlank &= b <= ' ';
+            }
+            if (isBlank) {
+                throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+            }
+            previousEnd = end;
+        }
+        return count;
+    }
+
+    private Tag[] readTags(ByteBuffer tags) throws IllegalValueException {
+        int count = tags.getInt(0);
+        if (count < 0 || 4 + 4L * count != tags.limit()) {
+            throw new IllegalValueException("Task manager file has a malformed tag list");
+        }
+        Tag[] table = new Tag[count];
+        for (int i = 0; i < count; i++) {
+            table[i] = new Tag(getString(checkIndex(tags.getInt(4 + 4 * i), stringCount)));
+        }
+        return table;
+    }
+
+    private void checkTasks() throws IllegalValueException {
+        if (size < 0 || tasks.limit() != (long) size * TASK_ROW_BYTES || taskTags.limit() < 4L * (size + 1)) {
+            throw new IllegalValueException("Task manager file has a malformed task list");
+        }
+        for (int i = 0; i < size; i++) {
+            checkIndex(tasks.getInt(4 * i), stringCount);
+        }
+        int previousOffset = 0;
+        for (int i = 0; i <= size; i++) {
+            int offset = taskTags.getInt(4 * i);
+            if (offset < previousOffset) {
+                throw new IllegalValueException("Task manager file has malformed task tags");
+            }
+            previousOffset = offset;
+        }
+        if (taskTags.limit() != 4L * (size + 1) + 4L * previousOffset) {
+            throw new IllegalValueException("Task manager file has malformed task tags");
+        }
+        for (int i = 0; i < previousOffset; i++) {
+            checkIndex(taskTags.getInt(4 * (size + 1 + i)), tagTable.length);
+        }
+    }
+
+    private static int checkIndex(int index, int count) throws IllegalValueException {
+        if (index < 0 || index >= count) {
+            throw new IllegalValueException("Task manager file refers to a missing entry " + index);
+        }
+        return index;
+    }
+
+    //// reading
+
+    private String getString(int id) {
+        int dataStart = 4 + 4 * (stringCount + 1);
+        int start = strings.getInt(4 + 4 * id);
+        int end = strings.getInt(4 + 4 * (id + 1));
+        byte[] bytes = new byte[end - start];
+        ByteBuffer duplicate = strings.duplicate();
+        duplicate.position(dataStart + start);
+        duplicate.get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private Name getName(int id) {
+        if (names[id] == null) {
+            try {
+                names[id] = new Name(getString(id));
+            } catch (IllegalValueException e) {
+                throw new AssertionError("names are checked when the file is opened", e);
+            }
+        }
+        return names[id];
+    }
+
+    private int getFlags(int index) {
+        return tasks.get(size * (4 + 8 + 8) + index);
+    }
+
+    private TaskDate getDate(int index, int columnOffset, int hasDateFlag, int hasTimeFlag) {
+        int flags = getFlags(index);
+        if ((flags & hasDateFlag) == 0) {
+            return null;
+        }
+        return new TaskDate(tasks.getLong(columnOffset + 8 * index), (flags & hasTimeFlag) != 0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an unmodifiable view of the tasks, which are read from the file as they are accessed.
+     */
+    @Override
+    public ObservableList<ReadOnlyTask> getTaskList() {
+        return taskList;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return new UnmodifiableObservableList<>(FXCollections.observableArrayList(tagTable));
+    }
+
+    @Override
+    public String toString() {
+        return size + " tasks, " + tagTable.length + " tags";
+    }
+
+    /**
+     * The distinct strings of a file being written, in the order they were first used.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<byte[]> strings = new ArrayList<>();
+        private int byteCount;
+
+        int getId(String string) {
+            return ids.computeIfAbsent(string, newString -> {
+                byte[] bytes = newString.getBytes(StandardCharsets.US_ASCII);
+                strings.add(bytes);
+                byteCount += bytes.length;
+                return strings.size() - 1;
+            });
+        }
+
+        byte[] toBytes() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(4 * (strings.size() + 2) + byteCount);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(strings.size());
+            int end = 0;
+            out.writeInt(end);
+            for (byte[] string : strings) {
+                end += string.length;
+                out.writeInt(end);
+            }
+            for (byte[] string : strings) {
+                out.write(string);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * The tasks of the file as a list, each task being a flyweight over its row.
+     */
+    private class TaskView extends AbstractList<ReadOnlyTask> {
+        @Override
+        public ReadOnlyTask get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return new TaskRow(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class TaskRow implements ReadOnlyTask {
+        private final int index;
+
+        TaskRow(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Name getName() {
+            return BinaryTaskManagerFile.this.getName(tasks.getInt(4 * index));
+        }
+
+        @Override
+        public TaskDate getStartDate() {
+            return getDate(index, 4 * size, HAS_START_DATE, START_DATE_HAS_TIME);
+        }
+
+        @Override
+        public TaskDate getEndDate() {
+            return getDate(index, (4 + 8) * size, HAS_END_DATE, END_DATE_HAS_TIME);
+        }
+
+        @Override
+        public boolean hasStartDate() {
+            return (getFlags(index) & HAS_START_DATE) != 0;
+        }
+
+        @Override
+        public boolean hasEndDate() {
+            return (getFlags(index) & HAS_END_DATE) != 0;
+        }
+
+        @Override
+        public boolean isFloating() {
+            return !hasStartDate() && !hasEndDate();
+        }
+
+        @Override
+        public boolean isDeadline() {
+            return !hasStartDate() && hasEndDate();
+        }
+
+        @Override
+        public boolean isEvent() {
+            return hasStartDate() && hasEndDate();
+        }
+
+        @Override
+        public boolean isDone() {
+            return (getFlags(index) & IS_DONE) != 0;
+        }
+
+        @Override
+        public boolean isDueSoon() {
+            return false;
+        }
+
+        @Override
+        public Set<Tag> getTagSet() {
+            Set<Tag> tags = new LinkedHashSet<>();
+            int tagIdsStart = 4 * (size + 1);
+            for (int i = taskTags.getInt(4 * index); i < taskTags.getInt(4 * (index + 1)); i++) {
+                tags.add(tagTable[taskTags.getInt(tagIdsStart + 4 * i)]);
+            }
+            return Collections.unmodifiableSet(tags);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ReadOnlyTask // instanceof handles nulls
+                            && this.isSameStateAs((ReadOnlyTask) other));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getName(), getStartDate(), getEndDate());
+        }
+
+        @Override
+        public String toString() {
+            return getAsText();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.taskmanager.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.taskmanager.commons.core.LogsCenter;
+import seedu.taskmanager.commons.exceptions.DataConversionException;
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
+import seedu.taskmanager.commons.util.FileUtil;
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+
+/**
+ * A class to access TaskManager data stored as a compact binary file on the hard disk.
+ * @see BinaryTaskManagerFile
+ */
+public class BinaryTaskManagerStorage implements TaskManagerStorage {
+
+    /** Data file paths ending with this select this storage. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskManagerStorage.class);
+
+    private String filePath;
+
+    public BinaryTaskManagerStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String getTaskManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void setTaskManagerFilePath(String newPath) {
+        this.filePath = newPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskManager> readTaskManager() throws DataConversionException, IOException {
+        return readTaskManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskManager()}. The file is read into memory, and its tasks are decoded from it as they
+     * are accessed.
+     * @param filePath
+     *        location of the data. Cannot be null
+     * @throws DataConversionException
+     *         if the file is not in the correct format, or is damaged.
+     */
+    @Override
+    public Optional<ReadOnlyTaskManager> readTaskManager(String filePath)
+            throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File taskManagerFile = new File(filePath);
+
+        if (!taskManagerFile.exists()) {
+            logger.info("TaskManager file " + taskManagerFile + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryTaskManagerFile.open(taskManagerFile.toPath()));
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
+        saveTaskManager(taskManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskManager(ReadOnlyTaskManager)}
+     * @param filePath
+     *        location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
+        assert taskManager != null;
+        assert filePath != null;
+
+        File file = new File(filePath);
+        FileUtil.createParentDirsOfFile(file);
+        BinaryTaskManagerFile.write(file.toPath(), taskManager);
+    }
+
+}
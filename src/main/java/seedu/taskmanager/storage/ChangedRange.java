@@ -0,0 +1,57 @@
+package seedu.taskmanager.storage;
+
+import java.util.List;
+
+/**
+ * The run of positions in which a new version of a task list differs from an old one. Tasks are immutable and shared
+ * between versions of a task manager, so the unchanged tasks before and after the run are told apart by identity.
+ */
+final class ChangedRange {
+
+    private final int start;
+    private final int oldEnd;
+    private final int newEnd;
+
+    private ChangedRange(int start, int oldEnd, int newEnd) {
+        this.start = start;
+        this.oldEnd = oldEnd;
+        this.newEnd = newEnd;
+    }
+
+    /**
+     * Returns the run of positions left between the longest common prefix and the longest common suffix of the two
+     * lists, whose elements are compared by identity.
+     */
+    static ChangedRange between(List<?> oldList, List<?> newList) {
+        int minSize = Math.min(oldList.size(), newList.size());
+        int prefix = 0;
+        while (prefix < minSize && oldList.get(prefix) == newList.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < minSize - prefix
+                && oldList.get(oldList.size() - 1 - suffix) == newList.get(newList.size() - 1 - suffix)) {
+            suffix++;
+        }
+        return new ChangedRange(prefix, oldList.size() - suffix, newList.size() - suffix);
+    }
+
+    /** Returns the first position at which the lists differ. */
+    int getStart() {
+        return start;
+    }
+
+    /** Returns the position in the old list just past the run. */
+    int getOldEnd() {
+        return oldEnd;
+    }
+
+    /** Returns the position in the new list just past the run. */
+    int getNewEnd() {
+        return newEnd;
+    }
+
+    boolean isEmpty() {
+        return start == oldEnd && start == newEnd;
+    }
+}
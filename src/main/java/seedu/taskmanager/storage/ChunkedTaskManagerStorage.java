@@ -0,0 +1,439 @@
+package seedu.taskmanager.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.taskmanager.commons.core.LogsCenter;
+import seedu.taskmanager.commons.exceptions.DataConversionException;
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+
+/**
+ * A class to access TaskManager data stored in a directory of chunk files, each holding a run of up to a fixed number
+ * of tasks, and a manifest listing the chunks in order along with the master tag list. Chunk files are never changed
+ * once written: a save writes the tasks of the chunks that changed since the last save to new chunk files, then
+ * replaces the manifest in one step, which is the moment the save takes effect. The chunks no longer listed are then
+ * deleted, and any left behind by a crash are deleted on the first save after loading.
+ * <p>
+ * Tasks are immutable and shared between versions of a task manager, so the changed chunks are found by comparing the
+ * tasks with those last saved by identity, rather than from the individual changes, which the saver may have merged.
+ */
+public class ChunkedTaskManagerStorage implements TaskManagerStorage {
+
+    /** Data file paths ending with this select this storage; the path names the directory holding the files. */
+    public static final String FILE_EXTENSION = ".chunks";
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(ChunkedTaskManagerStorage.class);
+
+    private static final String MANIFEST_FILE_NAME = "manifest";
+    private static final String CHUNK_FILE_PREFIX = "chunk-";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final int MANIFEST_MAGIC = 0x544d4d46;
+    private static final int CHUNK_MAGIC = 0x544d434b;
+    private static final int FORMAT_VERSION = 1;
+
+    private final int chunkSize;
+    private String filePath;
+
+    // All fields below are guarded by this storage's lock, and describe the files at savedPath.
+    /** The path of the directory whose data is {@link #savedTasks} and {@link #savedTags}, or null if unknown. */
+    private String savedPath;
+    private List<ReadOnlyTask> savedTasks;
+    private List<Tag> savedTags;
+    /** The chunks listed in the manifest, in order. */
+    private List<Chunk> savedChunks;
+    /** The id of the next chunk file to write, higher than that of any chunk file in the directory. */
+    private long nextChunkId;
+    /** Whether the directory may hold chunk files that the manifest does not list. */
+    private boolean isSweepNeeded;
+
+    public ChunkedTaskManagerStorage(String filePath) {
+        this(filePath, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize
+     *        the most tasks a chunk file holds.
+     */
+    public ChunkedTaskManagerStorage(String filePath, int chunkSize) {
+        assert chunkSize > 0;
+        this.filePath = filePath;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public synchronized String getTaskManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized void setTaskManagerFilePath(String newPath) {
+        this.filePath = newPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskManager> readTaskManager() throws DataConversionException, IOException {
+        return readTaskManager(getTaskManagerFilePath());
+    }
+
+    /**
+     * Similar to {@link #readTaskManager()}. Reading the data at the current file path also lets the next save write
+     * only the chunks changed since.
+     * @param filePath
+     *        location of the directory. Cannot be null
+     * @throws DataConversionException
+     *         if the files are not in the correct format, or their data is not valid.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskManager> readTaskManager(String filePath)
+            throws DataConversionException, IOException {
+        assert filePath != null;
+
+        Path directory = Paths.get(filePath);
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            logger.info("TaskManager manifest " + manifestPath + " not found");
+            return Optional.empty();
+        }
+
+        List<Tag> tags = new ArrayList<>();
+        List<Chunk> chunks = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        TaskManager taskManager;
+        long loadedNextChunkId;
+        try {
+            loadedNextChunkId = readManifest(manifestPath, tags, chunks);
+            for (Chunk chunk : chunks) {
+                readChunk(directory, chunk, tasks);
+            }
+            taskManager = JournalTaskManagerStorage.toTaskManager(tasks, tags);
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            setSaved(filePath, taskManager.getTaskList(), taskManager.getTagList(), chunks);
+            nextChunkId = loadedNextChunkId;
+            isSweepNeeded = true;
+        }
+        return Optional.of(taskManager);
+    }
+
+    @Override
+    public void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
+        saveTaskManager(taskManager, getTaskManagerFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveTaskManager(ReadOnlyTaskManager)}. Writes only the chunks changed since the last save to
+     * the same path, or every chunk if there was none.
+     * @param filePath
+     *        location of the directory. Cannot be null
+     */
+    @Override
+    public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
+        assert taskManager != null;
+        assert filePath != null;
+
+        List<ReadOnlyTask> tasks = new ArrayList<>(taskManager.getTaskList());
+        List<Tag> tags = new ArrayList<>(taskManager.getTagList());
+        Path directory = Paths.get(filePath);
+        if (!filePath.equals(savedPath)) {
+            Files.createDirectories(directory);
+            nextChunkId = findNextChunkId(directory);
+            isSweepNeeded = true;
+            List<Chunk> chunks = writeChunks(directory, tasks, 0, tasks.size());
+            commit(filePath, tasks, tags, chunks, new ArrayList<>());
+            return;
+        }
+
+        ChangedRange changedRange = ChangedRange.between(savedTasks, tasks);
+        if (changedRange.isEmpty()) {
+            if (!tags.equals(savedTags)) {
+                commit(filePath, tasks, tags, savedChunks, new ArrayList<>());
+            }
+            return;
+        }
+        try {
+            rewriteChanged(filePath, tasks, tags, changedRange.getStart(), changedRange.getOldEnd());
+        } catch (IOException e) {
+            isSweepNeeded = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the chunks holding the saved tasks from {@code changedStart} to just before {@code changedEnd}, which
+     * are all that differ from {@code tasks}, with new chunks of the tasks now in their place. When tasks are only
+     * inserted, the chunk before them takes them, so that tasks added at the end fill up the last chunk.
+     */
+    private void rewriteChanged(String path, List<ReadOnlyTask> tasks, List<Tag> tags, int changedStart,
+            int changedEnd) throws IOException {
+        Path directory = Paths.get(path);
+        int firstIndex = changedStart == changedEnd && changedStart > 0 ? changedStart - 1 : changedStart;
+        int lastIndex = Math.max(changedEnd - 1, firstIndex);
+
+        int first = savedChunks.size();
+        int last = -1;
+        int oldStart = savedTasks.size();
+        int oldEnd = savedTasks.size();
+        int chunkStart = 0;
+        for (int i = 0; i < savedChunks.size(); i++) {
+            int chunkEnd = chunkStart + savedChunks.get(i).size;
+            if (first == savedChunks.size() && firstIndex < chunkEnd) {
+                first = i;
+                oldStart = chunkStart;
+            }
+            if (lastIndex < chunkEnd) {
+                last = i;
+                oldEnd = chunkEnd;
+                break;
+            }
+            chunkStart = chunkEnd;
+        }
+
+        int newEnd = tasks.size() - (savedTasks.size() - oldEnd);
+        List<Chunk> chunks = new ArrayList<>(savedChunks.subList(0, first));
+        chunks.addAll(writeChunks(directory, tasks, oldStart, newEnd));
+        chunks.addAll(savedChunks.subList(last + 1, savedChunks.size()));
+        List<Chunk> replaced = new ArrayList<>(savedChunks.subList(first, last + 1));
+        logger.fine("Rewriting " + replaced.size() + " of " + savedChunks.size() + " chunks in " + directory);
+        commit(path, tasks, tags, chunks, replaced);
+    }
+
+    /**
+     * Writes the manifest listing {@code chunks}, then deletes the chunk files no longer listed. A save that fails
+     * before this leaves the saved data as it was, and the next save sweeps away the chunks written for it.
+     */
+    private void commit(String path, List<ReadOnlyTask> tasks, List<Tag> tags, List<Chunk> chunks,
+            List<Chunk> replaced) throws IOException {
+        Path directory = Paths.get(path);
+        writeManifest(directory, tags, chunks);
+        setSaved(path, tasks, tags, chunks);
+        for (Chunk chunk : replaced) {
+            Files.deleteIfExists(chunk.getPath(directory));
+        }
+        if (isSweepNeeded) {
+            deleteUnlisted(directory, chunks);
+            isSweepNeeded = false;
+        }
+    }
+
+    private void setSaved(String path, List<? extends ReadOnlyTask> tasks, List<Tag> tags, List<Chunk> chunks) {
+        savedPath = path;
+        savedTasks = new ArrayList<>(tasks);
+        savedTags = new ArrayList<>(tags);
+        savedChunks = chunks;
+    }
+
+    //// writing
+
+    /**
+     * Writes the tasks from {@code start} to just before {@code end} to new chunk files of up to the chunk size each.
+     */
+    private List<Chunk> writeChunks(Path directory, List<ReadOnlyTask> tasks, int start, int end) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        for (int chunkStart = start; chunkStart < end; chunkStart += chunkSize) {
+            Chunk chunk = new Chunk(nextChunkId++, Math.min(chunkSize, end - chunkStart));
+            List<ReadOnlyTask> chunkTasks = tasks.subList(chunkStart, chunkStart + chunk.size);
+            writeFile(chunk.getPath(directory), CHUNK_MAGIC, out -> {
+                out.writeInt(chunkTasks.size());
+                for (ReadOnlyTask task : chunkTasks) {
+                    JournalRecord.writeTask(out, task);
+                }
+            });
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private void writeManifest(Path directory, List<Tag> tags, List<Chunk> chunks) throws IOException {
+        long manifestNextChunkId = nextChunkId;
+        writeFile(directory.resolve(MANIFEST_FILE_NAME), MANIFEST_MAGIC, out -> {
+            out.writeLong(manifestNextChunkId);
+            JournalRecord.writeTags(out, tags);
+            out.writeInt(chunks.size());
+            for (Chunk chunk : chunks) {
+                out.writeLong(chunk.id);
+                out.writeInt(chunk.size);
+            }
+        });
+    }
+
+    /**
+     * Writes a checksummed file to a temporary file, which is forced to the disk and then replaces any file at
+     * {@code path} in one step.
+     */
+    private static void writeFile(Path path, int magic, ContentWriter content) throws IOException {
+        Path tempPath = path.resolveSibling(path.getFileName() + TEMP_EXTENSION);
+        CRC32 checksum = new CRC32();
+        try (FileOutputStream file = new FileOutputStream(tempPath.toFile())) {
+            DataOutputStream out = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(file), checksum));
+            out.writeInt(magic);
+            out.writeInt(FORMAT_VERSION);
+            content.writeTo(out);
+            out.writeInt((int) checksum.getValue());
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Deletes the chunk files and temporary files in the directory that are not among {@code chunks}, as left by a
+     * save that was cut short or by another copy of the data.
+     */
+    private static void deleteUnlisted(Path directory, List<Chunk> chunks) throws IOException {
+        Set<Path> listed = new HashSet<>();
+        for (Chunk chunk : chunks) {
+            listed.add(chunk.getPath(directory));
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, CHUNK_FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!listed.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns an id higher than that of any chunk file in the directory, so that no new chunk replaces one the
+     * manifest may still list.
+     */
+    private static long findNextChunkId(Path directory) throws IOException {
+        long maxId = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, CHUNK_FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                String id = file.getFileName().toString().substring(CHUNK_FILE_PREFIX.length());
+                if (id.endsWith(TEMP_EXTENSION)) {
+                    id = id.substring(0, id.length() - TEMP_EXTENSION.length());
+                }
+                try {
+                    maxId = Math.max(maxId, Long.parseLong(id));
+                } catch (NumberFormatException e) {
+                    logger.fine("Ignoring unexpected file " + file);
+                }
+            }
+        }
+        return maxId + 1;
+    }
+
+    //// reading
+
+    /**
+     * Reads the master tag list and the chunks listed in the manifest, and returns the id of the next chunk file.
+     * @throws IllegalValueException
+     *         if the manifest is damaged or its data is not valid.
+     */
+    private static long readManifest(Path manifestPath, List<Tag> tags, List<Chunk> chunks)
+            throws IOException, IllegalValueException {
+        return readFile(manifestPath, MANIFEST_MAGIC, in -> {
+            long manifestNextChunkId = in.readLong();
+            tags.addAll(JournalRecord.readTags(in));
+            int chunkCount = in.readInt();
+            for (int i = 0; i < chunkCount; i++) {
+                chunks.add(new Chunk(in.readLong(), in.readInt()));
+            }
+            return manifestNextChunkId;
+        });
+    }
+
+    /**
+     * Reads the tasks of the chunk into {@code tasks}.
+     * @throws IllegalValueException
+     *         if the chunk file is missing, damaged, or does not hold as many tasks as the manifest lists.
+     */
+    private static void readChunk(Path directory, Chunk chunk, List<Task> tasks)
+            throws IOException, IllegalValueException {
+        Path chunkPath = chunk.getPath(directory);
+        if (!Files.exists(chunkPath)) {
+            throw new IllegalValueException("Chunk file " + chunkPath + " listed in the manifest is missing");
+        }
+        int taskCount = readFile(chunkPath, CHUNK_MAGIC, in -> {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                tasks.add(JournalRecord.readTask(in));
+            }
+            return count;
+        });
+        if (taskCount != chunk.size) {
+            throw new IllegalValueException("Chunk file " + chunkPath + " has " + taskCount + " tasks rather than "
+                    + chunk.size);
+        }
+    }
+
+    /**
+     * Reads a file written by {@link #writeFile(Path, int, ContentWriter)}.
+     * @throws IllegalValueException
+     *         if the file is not of the expected kind, or is damaged.
+     */
+    private static <T> T readFile(Path path, int magic, ContentReader<T> content)
+            throws IOException, IllegalValueException {
+        CRC32 checksum = new CRC32();
+        try (InputStream file = Files.newInputStream(path)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(file), checksum));
+            if (in.readInt() != magic || in.readInt() != FORMAT_VERSION) {
+                throw new IllegalValueException(path + " is not a task manager manifest or chunk");
+            }
+            T result = content.readFrom(in);
+            int expectedChecksum = (int) checksum.getValue();
+            if (in.readInt() != expectedChecksum) {
+                throw new IllegalValueException(path + " is damaged");
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A chunk file listed in the manifest, and the number of tasks in it.
+     */
+    private static class Chunk {
+        private final long id;
+        private final int size;
+
+        Chunk(long id, int size) {
+            this.id = id;
+            this.size = size;
+        }
+
+        Path getPath(Path directory) {
+            return directory.resolve(CHUNK_FILE_PREFIX + id);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ContentReader<T> {
+        T readFrom(DataInputStream in) throws IOException, IllegalValueException;
+    }
+}
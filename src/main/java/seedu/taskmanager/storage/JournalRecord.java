@@ -0,0 +1,305 @@
+package seedu.taskmanager.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+
+/**
+ * A single change to the tasks or tags of a task manager, as appended to the journal of a
+ * {@link JournalTaskManagerStorage}. Records refer to tasks by their position in the list, so they must be replayed in
+ * the order they were written in.
+ */
+abstract class JournalRecord {
+
+    private static final byte ADD = 1;
+    private static final byte UPDATE = 2;
+    private static final byte MARK = 3;
+    private static final byte DELETE = 4;
+    private static final byte CLEAR = 5;
+    private static final byte SET_TAGS = 6;
+
+    private JournalRecord() {
+    }
+
+    /**
+     * Returns the records that change {@code oldTasks} and {@code oldTags} into {@code newTasks} and {@code newTags}.
+     * Only the {@link ChangedRange} of the two task lists is compared in detail.
+     */
+    static List<JournalRecord> diff(List<? extends ReadOnlyTask> oldTasks, List<Tag> oldTags,
+            List<? extends ReadOnlyTask> newTasks, List<Tag> newTags) {
+        List<JournalRecord> records = new ArrayList<>();
+        if (!oldTags.equals(newTags)) {
+            records.add(new SetTags(newTags));
+        }
+        if (newTasks.isEmpty()) {
+            if (!oldTasks.isEmpty()) {
+                records.add(new Clear());
+            }
+            return records;
+        }
+
+        ChangedRange changedRange = ChangedRange.between(oldTasks, newTasks);
+        int start = changedRange.getStart();
+        int oldChanged = changedRange.getOldEnd() - start;
+        int newChanged = changedRange.getNewEnd() - start;
+        int replaced = Math.min(oldChanged, newChanged);
+        for (int i = start; i < start + replaced; i++) {
+            addReplacement(records, i, oldTasks.get(i), newTasks.get(i));
+        }
+        if (oldChanged > replaced) {
+            records.add(new Delete(start + replaced, oldChanged - replaced));
+        }
+        for (int i = start + replaced; i < start + newChanged; i++) {
+            records.add(new Add(i, new Task(newTasks.get(i))));
+        }
+        return records;
+    }
+
+    /**
+     * Adds the record that replaces {@code oldTask} with {@code newTask} at {@code index}: a mark if only the done
+     * status differs, or nothing if they are the same.
+     */
+    private static void addReplacement(List<JournalRecord> records, int index, ReadOnlyTask oldTask,
+            ReadOnlyTask newTask) {
+        if (!oldTask.isSameStateAs(newTask) || !oldTask.getTagSet().equals(newTask.getTagSet())) {
+            records.add(new Update(index, new Task(newTask)));
+        } else if (oldTask.isDone() != newTask.isDone()) {
+            records.add(new Mark(index, newTask.isDone()));
+        }
+    }
+
+    /**
+     * Reads a record written by {@link #writeTo(DataOutput)}.
+     * @throws IllegalValueException
+     *         if the record is not valid.
+     */
+    static JournalRecord readFrom(DataInput in) throws IOException, IllegalValueException {
+        byte type = in.readByte();
+        switch (type) {
+        case ADD:
+            return new Add(in.readInt(), readTask(in));
+        case UPDATE:
+            return new Update(in.readInt(), readTask(in));
+        case MARK:
+            return new Mark(in.readInt(), in.readBoolean());
+        case DELETE:
+            return new Delete(in.readInt(), in.readInt());
+        case CLEAR:
+            return new Clear();
+        case SET_TAGS:
+            return new SetTags(readTags(in));
+        default:
+            throw new IllegalValueException("Unknown journal record type " + type);
+        }
+    }
+
+    abstract void writeTo(DataOutput out) throws IOException;
+
+    /**
+     * Makes the change on {@code tasks} and {@code tags}.
+     * @throws IllegalValueException
+     *         if the change refers to a position that is not in {@code tasks}.
+     */
+    abstract void applyTo(List<Task> tasks, List<Tag> tags) throws IllegalValueException;
+
+    //// encoding of tasks and tags, shared with snapshot and chunk files
+
+    static void writeTask(DataOutput out, ReadOnlyTask task) throws IOException {
+        out.writeUTF(task.getName().fullName);
+        writeDate(out, task.getStartDate());
+        writeDate(out, task.getEndDate());
+        out.writeInt(task.getTagSet().size());
+        for (Tag tag : task.getTagSet()) {
+            out.writeUTF(tag.tagName);
+        }
+        out.writeBoolean(task.isDone());
+    }
+
+    static Task readTask(DataInput in) throws IOException, IllegalValueException {
+        Name name = new Name(in.readUTF());
+        TaskDate startDate = readDate(in);
+        TaskDate endDate = readDate(in);
+        UniqueTagList tags = new UniqueTagList(readTags(in));
+        return new Task(name, startDate, endDate, tags, in.readBoolean());
+    }
+
+    static void writeTags(DataOutput out, List<Tag> tags) throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    static List<Tag> readTags(DataInput in) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(new Tag(in.readUTF()));
+        }
+        return tags;
+    }
+
+    private static void writeDate(DataOutput out, TaskDate date) throws IOException {
+        out.writeBoolean(date != null);
+        if (date != null) {
+            out.writeLong(date.getTime());
+            out.writeBoolean(date.hasTime());
+        }
+    }
+
+    private static TaskDate readDate(DataInput in) throws IOException {
+        return in.readBoolean() ? new TaskDate(in.readLong(), in.readBoolean()) : null;
+    }
+
+    private static void checkIndex(int index, int size) throws IllegalValueException {
+        if (index < 0 || index >= size) {
+            throw new IllegalValueException("Journal refers to task " + index + " of " + size);
+        }
+    }
+
+    private static class Add extends JournalRecord {
+        private final int index;
+        private final Task task;
+
+        Add(int index, Task task) {
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(ADD);
+            out.writeInt(index);
+            writeTask(out, task);
+        }
+
+        @Override
+        void applyTo(List<Task> tasks, List<Tag> tags) throws IllegalValueException {
+            checkIndex(index, tasks.size() + 1);
+            tasks.add(index, task);
+        }
+    }
+
+    private static class Update extends JournalRecord {
+        private final int index;
+        private final Task task;
+
+        Update(int index, Task task) {
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(UPDATE);
+            out.writeInt(index);
+            writeTask(out, task);
+        }
+
+        @Override
+        void applyTo(List<Task> tasks, List<Tag> tags) throws IllegalValueException {
+            checkIndex(index, tasks.size());
+            tasks.set(index, task);
+        }
+    }
+
+    /**
+     * Change of a task's done status only, which is by far the most common edit and needs no task details.
+     */
+    private static class Mark extends JournalRecord {
+        private final int index;
+        private final boolean isDone;
+
+        Mark(int index, boolean isDone) {
+            this.index = index;
+            this.isDone = isDone;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(MARK);
+            out.writeInt(index);
+            out.writeBoolean(isDone);
+        }
+
+        @Override
+        void applyTo(List<Task> tasks, List<Tag> tags) throws IllegalValueException {
+            checkIndex(index, tasks.size());
+            tasks.set(index, new Task.Builder(tasks.get(index)).setDoneStatus(isDone).build());
+        }
+    }
+
+    /**
+     * Removal of {@code count} tasks in a row, starting at {@code index}.
+     */
+    private static class Delete extends JournalRecord {
+        private final int index;
+        private final int count;
+
+        Delete(int index, int count) {
+            this.index = index;
+            this.count = count;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(DELETE);
+            out.writeInt(index);
+            out.writeInt(count);
+        }
+
+        @Override
+        void applyTo(List<Task> tasks, List<Tag> tags) throws IllegalValueException {
+            checkIndex(index, tasks.size());
+            checkIndex(index + count - 1, tasks.size());
+            tasks.subList(index, index + count).clear();
+        }
+    }
+
+    private static class Clear extends JournalRecord {
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(CLEAR);
+        }
+
+        @Override
+        void applyTo(List<Task> tasks, List<Tag> tags) {
+            tasks.clear();
+        }
+    }
+
+    /**
+     * Replacement of the master tag list, which is small, so it is written out whole whenever it changes.
+     */
+    private static class SetTags extends JournalRecord {
+        private final List<Tag> newTags;
+
+        SetTags(List<Tag> newTags) {
+            this.newTags = Collections.unmodifiableList(new ArrayList<>(newTags));
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(SET_TAGS);
+            writeTags(out, newTags);
+        }
+
+        @Override
+        void applyTo(List<Task> tasks, List<Tag> tags) {
+            tags.clear();
+            tags.addAll(newTags);
+        }
+    }
+}
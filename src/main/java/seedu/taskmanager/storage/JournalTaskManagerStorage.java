@@ -0,0 +1,526 @@
+package seedu.taskmanager.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.taskmanager.commons.core.LogsCenter;
+import seedu.taskmanager.commons.exceptions.DataConversionException;
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
+import seedu.taskmanager.commons.util.FileUtil;
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+
+/**
+ * A class to access TaskManager data stored as a snapshot file and a journal of the changes made since, so that saving
+ * a change writes only that change rather than every task. Each save appends the {@link JournalRecord}s that turn the
+ * last saved data into the new data as one checksummed commit, and forces it to the disk once. Loading reads the
+ * snapshot and replays the journal; a commit cut short by a crash is ignored.
+ * <p>
+ * Once the journal grows past a size threshold, it is compacted in the background: the journal is set aside and a new
+ * one is started, the current data is written to a new snapshot, and the old journal is then deleted. Every journal
+ * names the generation of the snapshot it follows on from, so a journal whose changes are already in the snapshot is
+ * never replayed, whenever a compaction is interrupted.
+ */
+public class JournalTaskManagerStorage implements TaskManagerStorage {
+
+    /** Data file paths ending with this select this storage. */
+    public static final String FILE_EXTENSION = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTaskManagerStorage.class);
+
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    private static final String OLD_JOURNAL_EXTENSION = ".old";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final int JOURNAL_MAGIC = 0x544d4a4c;
+    private static final int SNAPSHOT_MAGIC = 0x544d534e;
+    private static final int FORMAT_VERSION = 1;
+    /** Magic number, format version and the generation of the snapshot the journal follows on from. */
+    private static final int JOURNAL_HEADER_BYTES = 16;
+    /** Length and checksum of the commit's records. */
+    private static final int COMMIT_HEADER_BYTES = 8;
+
+    private final long compactionThresholdBytes;
+    private String filePath;
+
+    // All fields below are guarded by this storage's lock, and describe the files at savedPath.
+    /** The path of the journal whose data is {@link #savedTasks} and {@link #savedTags}, or null if unknown. */
+    private String savedPath;
+    private List<ReadOnlyTask> savedTasks;
+    private List<Tag> savedTags;
+    /** The generation of the snapshot the current journal follows on from. */
+    private long generation;
+    /** The length of the journal up to the end of its last complete commit. */
+    private long journalLength;
+    /** The journal, while it is open for appending. */
+    private FileChannel journal;
+    private boolean isCompacting;
+    /** Whether the next save must write a whole snapshot, as the files are not in a state a commit can follow. */
+    private boolean isSnapshotNeeded;
+
+    public JournalTaskManagerStorage(String filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * @param compactionThresholdBytes
+     *        the journal length past which it is compacted into a new snapshot.
+     */
+    public JournalTaskManagerStorage(String filePath, long compactionThresholdBytes) {
+        assert compactionThresholdBytes > 0;
+        this.filePath = filePath;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    @Override
+    public synchronized String getTaskManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized void setTaskManagerFilePath(String newPath) {
+        this.filePath = newPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskManager> readTaskManager() throws DataConversionException, IOException {
+        return readTaskManager(getTaskManagerFilePath());
+    }
+
+    /**
+     * Similar to {@link #readTaskManager()}. Reading the data at the current file path also lets the next save append
+     * only the changes made to it.
+     * @param filePath
+     *        location of the journal. Cannot be null
+     * @throws DataConversionException
+     *         if the files are not in the correct format, or their data is not valid.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskManager> readTaskManager(String filePath)
+            throws DataConversionException, IOException {
+        assert filePath != null;
+        awaitCompaction();
+
+        Path journalPath = Paths.get(filePath);
+        Path snapshotPath = getSnapshotPath(journalPath);
+        Path oldJournalPath = getOldJournalPath(journalPath);
+        if (!Files.exists(journalPath) && !Files.exists(snapshotPath)) {
+            logger.info("TaskManager journal " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+        TaskManager taskManager;
+        long loadedGeneration;
+        long loadedJournalLength = -1;
+        boolean isCompactionUnfinished = false;
+        try {
+            loadedGeneration = Files.exists(snapshotPath) ? readSnapshot(snapshotPath, tasks, tags) : 0;
+            if (readJournalGeneration(oldJournalPath) == loadedGeneration) {
+                replayJournal(oldJournalPath, tasks, tags);
+                loadedGeneration++;
+                isCompactionUnfinished = true;
+            }
+            if (readJournalGeneration(journalPath) == loadedGeneration) {
+                loadedJournalLength = replayJournal(journalPath, tasks, tags);
+            } else if (Files.exists(journalPath)) {
+                logger.warning("Ignoring journal " + journalPath + ", whose changes are already in " + snapshotPath);
+            }
+            taskManager = toTaskManager(tasks, tags);
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            closeJournal();
+            setSaved(filePath, taskManager.getTaskList(), taskManager.getTagList());
+            generation = loadedGeneration;
+            journalLength = loadedJournalLength;
+            isSnapshotNeeded = isCompactionUnfinished || loadedJournalLength < 0;
+        }
+        return Optional.of(taskManager);
+    }
+
+    @Override
+    public void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
+        saveTaskManager(taskManager, getTaskManagerFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveTaskManager(ReadOnlyTaskManager)}. Appends only the changes since the last save to the
+     * same path, or writes a whole snapshot if there was none.
+     * @param filePath
+     *        location of the journal. Cannot be null
+     */
+    @Override
+    public synchronized void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
+        assert taskManager != null;
+        assert filePath != null;
+
+        List<ReadOnlyTask> tasks = new ArrayList<>(taskManager.getTaskList());
+        List<Tag> tags = new ArrayList<>(taskManager.getTagList());
+        if (isSnapshotNeeded || !filePath.equals(savedPath)) {
+            writeWholeSnapshot(filePath, tasks, tags);
+            return;
+        }
+
+        List<JournalRecord> records = JournalRecord.diff(savedTasks, savedTags, tasks, tags);
+        if (records.isEmpty()) {
+            setSaved(filePath, tasks, tags);
+            return;
+        }
+        byte[] commit = encodeCommit(records);
+        if (commit.length > compactionThresholdBytes) {
+            writeWholeSnapshot(filePath, tasks, tags);
+            return;
+        }
+        appendToJournal(commit);
+        setSaved(filePath, tasks, tags);
+        if (journalLength > compactionThresholdBytes && !isCompacting) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Waits until any compaction running in the background has finished.
+     * @throws InterruptedIOException
+     *         if interrupted while waiting.
+     */
+    synchronized void awaitCompaction() throws InterruptedIOException {
+        while (isCompacting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the journal to be compacted");
+            }
+        }
+    }
+
+    static Path getSnapshotPath(Path journalPath) {
+        String fileName = journalPath.getFileName().toString();
+        if (fileName.endsWith(FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        }
+        return journalPath.resolveSibling(fileName + SNAPSHOT_EXTENSION);
+    }
+
+    static Path getOldJournalPath(Path journalPath) {
+        return journalPath.resolveSibling(journalPath.getFileName() + OLD_JOURNAL_EXTENSION);
+    }
+
+    private void setSaved(String path, List<? extends ReadOnlyTask> tasks, List<Tag> tags) {
+        savedPath = path;
+        savedTasks = new ArrayList<>(tasks);
+        savedTags = new ArrayList<>(tags);
+    }
+
+    //// writing
+
+    /**
+     * Writes the whole data as a snapshot of a generation newer than any of the files at {@code path}, followed by an
+     * empty journal. Older journals are ignored from the moment the snapshot is in place.
+     */
+    private void writeWholeSnapshot(String path, List<ReadOnlyTask> tasks, List<Tag> tags) throws IOException {
+        awaitCompaction();
+        closeJournal();
+        Path journalPath = Paths.get(path);
+        Path snapshotPath = getSnapshotPath(journalPath);
+        Path oldJournalPath = getOldJournalPath(journalPath);
+        FileUtil.createParentDirsOfFile(journalPath.toFile());
+
+        long newGeneration = 1 + Math.max(readSnapshotGeneration(snapshotPath),
+                Math.max(readJournalGeneration(journalPath), readJournalGeneration(oldJournalPath)));
+        isSnapshotNeeded = true;
+        writeSnapshot(snapshotPath, newGeneration, tasks, tags);
+        startJournal(journalPath, newGeneration);
+        Files.deleteIfExists(oldJournalPath);
+        isSnapshotNeeded = false;
+        setSaved(path, tasks, tags);
+    }
+
+    /**
+     * Sets the journal aside and starts a new one following on from the current data, which is then written as the
+     * next snapshot on another thread.
+     */
+    private void startCompaction() throws IOException {
+        closeJournal();
+        Path journalPath = Paths.get(savedPath);
+        Path oldJournalPath = getOldJournalPath(journalPath);
+        Files.move(journalPath, oldJournalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        startJournal(journalPath, generation + 1);
+
+        isCompacting = true;
+        List<ReadOnlyTask> tasks = savedTasks;
+        List<Tag> tags = savedTags;
+        long snapshotGeneration = generation;
+        Thread thread = new Thread(() -> compact(journalPath, snapshotGeneration, tasks, tags),
+                "task-manager-compactor");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Runs on the compacting thread.
+     */
+    private void compact(Path journalPath, long snapshotGeneration, List<ReadOnlyTask> tasks, List<Tag> tags) {
+        long start = System.nanoTime();
+        try {
+            writeSnapshot(getSnapshotPath(journalPath), snapshotGeneration, tasks, tags);
+            Files.delete(getOldJournalPath(journalPath));
+            logger.fine("Compacted journal " + journalPath + " into a snapshot of " + tasks.size() + " tasks in "
+                    + (System.nanoTime() - start) / 1000000 + " ms");
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal " + journalPath + ", will write a snapshot on the next save: "
+                    + e);
+            synchronized (this) {
+                isSnapshotNeeded = true;
+            }
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Creates an empty journal following on from the snapshot of {@code snapshotGeneration}, replacing any journal
+     * there, and keeps it open for appending.
+     */
+    private void startJournal(Path journalPath, long snapshotGeneration) throws IOException {
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_BYTES);
+        header.putInt(JOURNAL_MAGIC).putInt(FORMAT_VERSION).putLong(snapshotGeneration).flip();
+        writeFully(header);
+        journal.force(true);
+        generation = snapshotGeneration;
+        journalLength = JOURNAL_HEADER_BYTES;
+    }
+
+    /**
+     * Appends a commit to the journal and forces it to the disk, once for all the records in it. Anything after the
+     * last complete commit, left by an earlier crash, is cut off first.
+     */
+    private void appendToJournal(byte[] commit) throws IOException {
+        if (journal == null) {
+            journal = FileChannel.open(Paths.get(savedPath), StandardOpenOption.WRITE);
+            journal.truncate(journalLength);
+        }
+        journal.position(journalLength);
+        writeFully(ByteBuffer.wrap(commit));
+        journal.force(false);
+        journalLength += commit.length;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private static byte[] encodeCommit(List<JournalRecord> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeInt(records.size());
+        for (JournalRecord record : records) {
+            record.writeTo(out);
+        }
+        byte[] commit = bytes.toByteArray();
+        int length = commit.length - COMMIT_HEADER_BYTES;
+        ByteBuffer.wrap(commit).putInt(length).putInt(checksumOf(commit, COMMIT_HEADER_BYTES, length));
+        return commit;
+    }
+
+    /**
+     * Writes a snapshot to a temporary file, which then replaces the snapshot at {@code snapshotPath} in one step.
+     */
+    private static void writeSnapshot(Path snapshotPath, long snapshotGeneration, List<ReadOnlyTask> tasks,
+            List<Tag> tags) throws IOException {
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMP_EXTENSION);
+        CRC32 checksum = new CRC32();
+        try (FileOutputStream file = new FileOutputStream(tempPath.toFile())) {
+            DataOutputStream out = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(file), checksum));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(snapshotGeneration);
+            JournalRecord.writeTags(out, tags);
+            out.writeInt(tasks.size());
+            for (ReadOnlyTask task : tasks) {
+                JournalRecord.writeTask(out, task);
+            }
+            out.writeInt((int) checksum.getValue());
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    //// reading
+
+    /**
+     * Reads the snapshot into {@code tasks} and {@code tags}, and returns its generation.
+     * @throws IllegalValueException
+     *         if the snapshot is damaged or its data is not valid.
+     */
+    private static long readSnapshot(Path snapshotPath, List<Task> tasks, List<Tag> tags)
+            throws IOException, IllegalValueException {
+        CRC32 checksum = new CRC32();
+        try (InputStream file = Files.newInputStream(snapshotPath)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(file), checksum));
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IllegalValueException(snapshotPath + " is not a task manager snapshot");
+            }
+            long snapshotGeneration = in.readLong();
+            tags.addAll(JournalRecord.readTags(in));
+            int taskCount = in.readInt();
+            for (int i = 0; i < taskCount; i++) {
+                tasks.add(JournalRecord.readTask(in));
+            }
+            int expectedChecksum = (int) checksum.getValue();
+            if (in.readInt() != expectedChecksum) {
+                throw new IllegalValueException(snapshotPath + " is damaged");
+            }
+            return snapshotGeneration;
+        }
+    }
+
+    /**
+     * Returns the generation of the snapshot, or 0 if there is no valid snapshot.
+     */
+    private static long readSnapshotGeneration(Path snapshotPath) {
+        return readGeneration(snapshotPath, SNAPSHOT_MAGIC);
+    }
+
+    /**
+     * Returns the generation of the snapshot the journal follows on from, or -1 if there is no valid journal.
+     */
+    private static long readJournalGeneration(Path journalPath) {
+        long journalGeneration = readGeneration(journalPath, JOURNAL_MAGIC);
+        return journalGeneration == 0 ? -1 : journalGeneration;
+    }
+
+    private static long readGeneration(Path path, int magic) {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            if (in.readInt() != magic || in.readInt() != FORMAT_VERSION) {
+                return 0;
+            }
+            return in.readLong();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Applies the commits in the journal to {@code tasks} and {@code tags}, and returns the length of the journal up
+     * to the end of its last complete commit. A commit that is cut short or fails its checksum, as one being written
+     * during a crash would, ends the journal.
+     * @throws IllegalValueException
+     *         if a complete commit is not valid.
+     */
+    private static long replayJournal(Path journalPath, List<Task> tasks, List<Tag> tags)
+            throws IOException, IllegalValueException {
+        long fileLength = Files.size(journalPath);
+        long position = JOURNAL_HEADER_BYTES;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+            in.readFully(new byte[JOURNAL_HEADER_BYTES]);
+            while (fileLength - position >= COMMIT_HEADER_BYTES) {
+                int length = in.readInt();
+                int expectedChecksum = in.readInt();
+                if (length < 0 || length > fileLength - position - COMMIT_HEADER_BYTES) {
+                    break;
+                }
+                byte[] records = new byte[length];
+                in.readFully(records);
+                if (checksumOf(records, 0, length) != expectedChecksum) {
+                    break;
+                }
+                applyCommit(records, tasks, tags);
+                position += COMMIT_HEADER_BYTES + length;
+            }
+        }
+        if (position < fileLength) {
+            logger.warning("Ignoring " + (fileLength - position) + " bytes of an incomplete change at the end of "
+                    + journalPath);
+        }
+        return position;
+    }
+
+    private static void applyCommit(byte[] records, List<Task> tasks, List<Tag> tags) throws IllegalValueException {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(records));
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                JournalRecord.readFrom(in).applyTo(tasks, tags);
+            }
+        } catch (IOException e) {
+            throw new IllegalValueException("Journal has a malformed change: " + e);
+        }
+    }
+
+    /**
+     * Returns a task manager with the master tag list {@code tags}, followed by any other tags of the tasks, and the
+     * tasks in order, made as one change. Also used by {@link ChunkedTaskManagerStorage}.
+     * @throws IllegalValueException
+     *         if there are duplicate tasks or tags.
+     */
+    static TaskManager toTaskManager(List<Task> tasks, List<Tag> tags) throws IllegalValueException {
+        TaskManager taskManager = new TaskManager();
+        taskManager.beginChange();
+        try {
+            taskManager.setTags(tags);
+            for (Task task : tasks) {
+                taskManager.addTask(task);
+            }
+        } finally {
+            taskManager.endChange();
+        }
+        return taskManager;
+    }
+
+    private static int checksumOf(byte[] bytes, int offset, int length) {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, offset, length);
+        return (int) checksum.getValue();
+    }
+}
@@ -31,8 +31,23 @@ public interface Storage extends TaskManagerStorage, UserPrefsStorage {
     void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException;
 
     /**
-     * Saves the current version of the Task Manager to the hard disk. Creates the data file if it is missing. Raises
-     * {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Schedules the changed version of the Task Manager to be saved to the hard disk on another thread. Creates the
+     * data file if it is missing. Raises {@link DataSavingExceptionEvent} on that thread if there was an error during
+     * saving.
      */
     void handleTaskManagerChangedEvent(TaskManagerChangedEvent abce);
+
+    /**
+     * Saves any changes still waiting to be saved, and returns once they are on the hard disk.
+     */
+    void flushPendingSaves();
+
+    /**
+     * Returns the time from a change to the Task Manager until the end of the latest save, which included it, or 0 if
+     * nothing was saved yet.
+     */
+    long getLastSaveLatencyMillis();
+
+    /** Returns the longest time any change has waited until it was saved, or 0 if nothing was saved yet. */
+    long getMaxSaveLatencyMillis();
 }
@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.taskmanager.commons.core.ComponentManager;
+import seedu.taskmanager.commons.core.Config;
 import seedu.taskmanager.commons.core.LogsCenter;
 import seedu.taskmanager.commons.events.model.TaskManagerChangedEvent;
 import seedu.taskmanager.commons.events.storage.DataSavingExceptionEvent;
@@ -16,22 +17,55 @@ import seedu.taskmanager.model.ReadOnlyTaskManager;
 import seedu.taskmanager.model.UserPrefs;
 
 /**
- * Manages storage of TaskManager data in local storage.
+ * Manages storage of TaskManager data in local storage. Changes to the task manager are saved behind the scenes on a
+ * separate thread, so that a burst of changes is saved once without holding up the thread that made them.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private TaskManagerStorage taskManagerStorage;
+    private volatile TaskManagerStorage taskManagerStorage;
     private UserPrefsStorage userPrefsStorage;
-
-    public StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage) {
+    private final WriteBehindSaver taskManagerSaver;
+
+    /**
+     * Creates a StorageManager that saves changes to the task manager once they have stopped for
+     * {@code saveDebounceMillis}, or once the oldest has waited for {@code saveMaxDelayMillis}.
+     */
+    public StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage,
+            long saveDebounceMillis, long saveMaxDelayMillis) {
         super();
         this.taskManagerStorage = taskManagerStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.taskManagerSaver = new WriteBehindSaver(this::saveTaskManager, e -> raise(new DataSavingExceptionEvent(e)),
+                saveDebounceMillis, saveMaxDelayMillis);
+    }
+
+    public StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage) {
+        this(taskManagerStorage, userPrefsStorage, Config.DEFAULT_SAVE_DEBOUNCE_MILLIS,
+                Config.DEFAULT_SAVE_MAX_DELAY_MILLIS);
     }
 
     public StorageManager(String taskManagerFilePath, String userPrefsFilePath) {
-        this(new XmlTaskManagerStorage(taskManagerFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+        this(createTaskManagerStorage(taskManagerFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+    }
+
+    /**
+     * Returns the storage for task manager data at {@code filePath}, chosen by the file's extension: a journal for
+     * {@value JournalTaskManagerStorage#FILE_EXTENSION} files, a binary file for
+     * {@value BinaryTaskManagerStorage#FILE_EXTENSION} files, a directory of chunk files for
+     * {@value ChunkedTaskManagerStorage#FILE_EXTENSION} paths, or xml otherwise.
+     */
+    public static TaskManagerStorage createTaskManagerStorage(String filePath) {
+        if (filePath.endsWith(JournalTaskManagerStorage.FILE_EXTENSION)) {
+            return new JournalTaskManagerStorage(filePath);
+        }
+        if (filePath.endsWith(BinaryTaskManagerStorage.FILE_EXTENSION)) {
+            return new BinaryTaskManagerStorage(filePath);
+        }
+        if (filePath.endsWith(ChunkedTaskManagerStorage.FILE_EXTENSION)) {
+            return new ChunkedTaskManagerStorage(filePath);
+        }
+        return new XmlTaskManagerStorage(filePath);
     }
 
     // ================ UserPrefs methods ==============================
@@ -55,7 +89,12 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public void setTaskManagerFilePath(String newPath) {
-        taskManagerStorage.setTaskManagerFilePath(newPath);
+        TaskManagerStorage newStorage = createTaskManagerStorage(newPath);
+        if (newStorage.getClass() == taskManagerStorage.getClass()) {
+            taskManagerStorage.setTaskManagerFilePath(newPath);
+        } else {
+            taskManagerStorage = newStorage;
+        }
     }
 
     @Override
@@ -83,11 +122,22 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     @Subscribe
     public void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveTaskManager(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        taskManagerSaver.submit(event.data);
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        taskManagerSaver.flush();
+    }
+
+    @Override
+    public long getLastSaveLatencyMillis() {
+        return taskManagerSaver.getLastSaveLatencyMillis();
+    }
+
+    @Override
+    public long getMaxSaveLatencyMillis() {
+        return taskManagerSaver.getMaxSaveLatencyMillis();
     }
 }
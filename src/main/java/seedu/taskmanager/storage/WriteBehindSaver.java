@@ -0,0 +1,193 @@
+package seedu.taskmanager.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.taskmanager.commons.core.LogsCenter;
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+
+/**
+ * Saves task manager data on a dedicated thread rather than on the thread that changed it. Data submitted in a burst
+ * is coalesced: only the latest is saved, once no newer data has been submitted for the debounce time, or once the
+ * oldest unsaved data has waited for the maximum delay, whichever comes first. The thread only runs while there is data
+ * to save.
+ * <p>
+ * Submitted data must not change afterwards, as it is read on the saving thread.
+ */
+class WriteBehindSaver {
+
+    /**
+     * Saves task manager data, on the saving thread.
+     */
+    @FunctionalInterface
+    interface SaveAction {
+        void save(ReadOnlyTaskManager data) throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final SaveAction saveAction;
+    private final Consumer<IOException> failureHandler;
+    private final long debounceNanos;
+    private final long maxDelayNanos;
+
+    // All fields below are guarded by this saver's lock.
+    /** The latest data not yet being saved, or null if there is none. */
+    private ReadOnlyTaskManager pendingData;
+    /** When the oldest and the latest of the data coalesced into {@link #pendingData} were submitted. */
+    private long firstPendingNanos;
+    private long lastPendingNanos;
+    private boolean isRunning;
+    private boolean isSaving;
+    private boolean isFlushRequested;
+    private long saveCount;
+    private long coalescedCount;
+    private long lastSaveLatencyMillis;
+    private long maxSaveLatencyMillis;
+
+    /**
+     * @param failureHandler
+     *        called on the saving thread with the exception of every failed save.
+     */
+    WriteBehindSaver(SaveAction saveAction, Consumer<IOException> failureHandler, long debounceMillis,
+            long maxDelayMillis) {
+        assert saveAction != null && failureHandler != null;
+        assert debounceMillis >= 0 && maxDelayMillis >= 0;
+        this.saveAction = saveAction;
+        this.failureHandler = failureHandler;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+    }
+
+    /**
+     * Schedules {@code data} to be saved in place of any data still waiting to be saved.
+     */
+    synchronized void submit(ReadOnlyTaskManager data) {
+        assert data != null;
+        long now = System.nanoTime();
+        if (pendingData == null) {
+            firstPendingNanos = now;
+        } else {
+            coalescedCount++;
+        }
+        pendingData = data;
+        lastPendingNanos = now;
+        if (!isRunning) {
+            isRunning = true;
+            Thread thread = new Thread(this::saveUntilIdle, "task-manager-saver");
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Saves any data waiting to be saved without further delay, and waits until every save has finished.
+     */
+    synchronized void flush() {
+        isFlushRequested = true;
+        notifyAll();
+        try {
+            while (pendingData != null || isSaving) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for the task manager to be saved");
+        } finally {
+            isFlushRequested = false;
+        }
+    }
+
+    /**
+     * Returns the time from the first change in the latest save to the end of that save, or 0 if nothing was saved.
+     */
+    synchronized long getLastSaveLatencyMillis() {
+        return lastSaveLatencyMillis;
+    }
+
+    /**
+     * Returns the longest time any change has taken to be saved, or 0 if nothing was saved.
+     */
+    synchronized long getMaxSaveLatencyMillis() {
+        return maxSaveLatencyMillis;
+    }
+
+    synchronized long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns how many submitted data were never saved because newer data replaced them.
+     */
+    synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Runs on the saving thread, saving data as it becomes due until none is left.
+     */
+    private void saveUntilIdle() {
+        while (true) {
+            ReadOnlyTaskManager data;
+            long submittedNanos;
+            synchronized (this) {
+                data = awaitDueData();
+                if (data == null) {
+                    isRunning = false;
+                    notifyAll();
+                    return;
+                }
+                submittedNanos = firstPendingNanos;
+                pendingData = null;
+                isSaving = true;
+            }
+            long saveStartNanos = System.nanoTime();
+            try {
+                saveAction.save(data);
+            } catch (IOException e) {
+                failureHandler.accept(e);
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while saving the task manager: " + e);
+            } finally {
+                recordSave(submittedNanos, saveStartNanos);
+            }
+        }
+    }
+
+    /**
+     * Waits until the pending data is due to be saved, and returns it, or returns null if there is none. Must be called
+     * holding this saver's lock.
+     */
+    private ReadOnlyTaskManager awaitDueData() {
+        while (pendingData != null) {
+            long now = System.nanoTime();
+            long dueNanos = Math.min(lastPendingNanos + debounceNanos, firstPendingNanos + maxDelayNanos);
+            if (isFlushRequested || now - dueNanos >= 0) {
+                return pendingData;
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, dueNanos - now);
+            } catch (InterruptedException e) {
+                // Only ever interrupted from outside; save what is pending rather than lose it
+                return pendingData;
+            }
+        }
+        return null;
+    }
+
+    private synchronized void recordSave(long submittedNanos, long saveStartNanos) {
+        long now = System.nanoTime();
+        lastSaveLatencyMillis = TimeUnit.NANOSECONDS.toMillis(now - submittedNanos);
+        maxSaveLatencyMillis = Math.max(maxSaveLatencyMillis, lastSaveLatencyMillis);
+        saveCount++;
+        isSaving = false;
+        notifyAll();
+        logger.fine("Saved the task manager in " + TimeUnit.NANOSECONDS.toMillis(now - saveStartNanos) + " ms, "
+                + lastSaveLatencyMillis + " ms after the change; " + saveCount + " saves, " + coalescedCount
+                + " changes coalesced");
+    }
+}
@@ -7,7 +7,6 @@ import java.util.List;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.taskmanager.commons.exceptions.IllegalValueException;
-import seedu.taskmanager.logic.parser.DateTimeUtil;
 import seedu.taskmanager.model.tag.Tag;
 import seedu.taskmanager.model.tag.UniqueTagList;
 import seedu.taskmanager.model.task.Name;
@@ -21,15 +20,15 @@ import seedu.taskmanager.model.task.TaskDate;
  */
 public class XmlAdaptedTask {
 
-    public static final String NO_DATE = "N/A";
+    public static final String MESSAGE_MISSING_NAME = "A saved task has no name";
 
     @XmlElement(
             required = true)
     private String name;
     @XmlElement
-    private String startDate;
+    private XmlAdaptedTaskDate startDate;
     @XmlElement
-    private String endDate;
+    private XmlAdaptedTaskDate endDate;
     @XmlElement
     private List<XmlAdaptedTag> tagged = new ArrayList<>();
     @XmlElement
@@ -49,20 +48,11 @@ public class XmlAdaptedTask {
     public XmlAdaptedTask(ReadOnlyTask source) {
         name = source.getName().fullName;
 
-        if (source.getStartDate() == null) {
-            startDate = NO_DATE;
-        } else {
-            startDate = source.getStartDate().toString();
-        }
-
-        if (source.getEndDate() == null) {
-            endDate = NO_DATE;
-        } else {
-            endDate = source.getEndDate().toString();
-        }
+        startDate = new XmlAdaptedTaskDate(source.getStartDate());
+        endDate = new XmlAdaptedTaskDate(source.getEndDate());
 
         tagged = new ArrayList<>();
-        for (Tag tag : source.getTags()) {
+        for (Tag tag : source.getTagSet()) {
             tagged.add(new XmlAdaptedTag(tag));
         }
 
@@ -75,16 +65,30 @@ public class XmlAdaptedTask {
      *         if there were any data constraints violated in the adapted task
      */
     public Task toModelType() throws IllegalValueException {
-        final List<Tag> taskTags = new ArrayList<>();
+        final List<String> tagNames = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
-            taskTags.add(tag.toModelType());
+            tagNames.add(tag.tagName);
+        }
+        final TaskDate taskStartDate = startDate == null ? null : startDate.toModelType(true);
+        final TaskDate taskEndDate = endDate == null ? null : endDate.toModelType(false);
+        return toModelType(name, taskStartDate, taskEndDate, tagNames, isDoneStatus);
+    }
+
+    /**
+     * Converts the details of a task, as they are saved in xml, into the model's Task object. A missing date is read
+     * as no date.
+     * @throws IllegalValueException
+     *         if there were any data constraints violated in the details
+     */
+    static Task toModelType(String name, TaskDate startDate, TaskDate endDate, List<String> tagNames,
+            boolean isDoneStatus) throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_NAME);
+        }
+        final List<Tag> taskTags = new ArrayList<>();
+        for (String tagName : tagNames) {
+            taskTags.add(new Tag(tagName));
         }
-        final Name name = new Name(this.name);
-        final TaskDate startDate =
-                this.startDate.equals(NO_DATE) ? null : DateTimeUtil.parseStartDateTime(this.startDate);
-        final TaskDate endDate = this.endDate.equals(NO_DATE) ? null : DateTimeUtil.parseEndDateTime(this.endDate);
-        final UniqueTagList tags = new UniqueTagList(taskTags);
-        final boolean isDoneStatus = this.isDoneStatus;
-        return new Task(name, startDate, endDate, tags, isDoneStatus);
+        return new Task(new Name(name), startDate, endDate, new UniqueTagList(taskTags), isDoneStatus);
     }
 }
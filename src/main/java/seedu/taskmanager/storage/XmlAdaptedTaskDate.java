@@ -0,0 +1,103 @@
+package seedu.taskmanager.storage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlValue;
+
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
+import seedu.taskmanager.logic.parser.DateTimeUtil;
+import seedu.taskmanager.model.task.TaskDate;
+
+/**
+ * JAXB-friendly version of a TaskDate, or of no date. From schema version 2 the date is saved as epoch milliseconds and
+ * whether it has a time, which are read back without any parsing. The displayed date, which was all that version 1
+ * saved, is still written for people reading the file, and is only parsed to migrate version 1 files.
+ */
+public class XmlAdaptedTaskDate {
+
+    public static final String NO_DATE = "N/A";
+
+    private static final LocalTime START_OF_DAY = LocalTime.of(0, 0, 0);
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+
+    @XmlAttribute
+    private Long epochMillis;
+    @XmlAttribute
+    private Boolean hasTime;
+    @XmlValue
+    private String displayedDate;
+
+    /**
+     * Constructs an XmlAdaptedTaskDate. This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedTaskDate() {
+    }
+
+    /**
+     * Converts a given TaskDate, or no date if {@code source} is null, into this class for JAXB use.
+     */
+    public XmlAdaptedTaskDate(TaskDate source) {
+        if (source == null) {
+            displayedDate = NO_DATE;
+        } else {
+            epochMillis = source.getTime();
+            hasTime = source.hasTime();
+            displayedDate = source.toString();
+        }
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted date into the model's TaskDate, or null if there is no date.
+     * @param isStartDate
+     *        whether a version 1 date without a time is at the start of its day rather than the end.
+     * @throws IllegalValueException
+     *         if the date cannot be read.
+     */
+    public TaskDate toModelType(boolean isStartDate) throws IllegalValueException {
+        return toModelType(epochMillis, hasTime, displayedDate, isStartDate);
+    }
+
+    /**
+     * Converts the parts of a saved date into the model's TaskDate, or null if there is no date. Dates saved with
+     * their epoch milliseconds are not parsed.
+     * @see #toModelType(boolean)
+     */
+    static TaskDate toModelType(Long epochMillis, Boolean hasTime, String displayedDate, boolean isStartDate)
+            throws IllegalValueException {
+        if (epochMillis != null && hasTime != null) {
+            return new TaskDate(epochMillis, hasTime);
+        }
+        if (displayedDate == null || displayedDate.trim().equals(NO_DATE)) {
+            return null;
+        }
+        return parseDisplayedDate(displayedDate.trim(), isStartDate);
+    }
+
+    /**
+     * Parses a date in a version 1 file. The formats {@link TaskDate#toString()} displays dates in are parsed directly;
+     * only dates edited into another format by hand go through the natural language parser.
+     */
+    private static TaskDate parseDisplayedDate(String displayedDate, boolean isStartDate)
+            throws IllegalValueException {
+        Date dateTime = DateTimeUtil.getDateFromString(displayedDate);
+        if (dateTime != null) {
+            return new TaskDate(dateTime, true);
+        }
+        Date date = DateTimeUtil.getDateFromOnlyDateString(displayedDate);
+        if (date != null) {
+            LocalDate day = date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+            return toTaskDate(day.atTime(isStartDate ? START_OF_DAY : END_OF_DAY), false);
+        }
+        return isStartDate ? DateTimeUtil.parseStartDateTime(displayedDate)
+                           : DateTimeUtil.parseEndDateTime(displayedDate);
+    }
+
+    private static TaskDate toTaskDate(LocalDateTime dateTime, boolean hasTime) {
+        return new TaskDate(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), hasTime);
+    }
+}
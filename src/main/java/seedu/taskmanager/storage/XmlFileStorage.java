@@ -7,7 +7,9 @@ import java.io.FileNotFoundException;
 import javax.xml.bind.JAXBException;
 
 import seedu.taskmanager.commons.exceptions.DataConversionException;
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
 import seedu.taskmanager.commons.util.XmlUtil;
+import seedu.taskmanager.model.TaskManager;
 
 /**
  * Stores taskmanager data in an XML file
@@ -24,16 +26,31 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Returns the task manager in the file, reading it one task at a time.
+     * @see XmlTaskManagerReader
+     */
+    public static TaskManager loadTaskManagerFromSaveFile(File file)
+            throws DataConversionException, FileNotFoundException {
+        return XmlTaskManagerReader.read(file);
+    }
+
     /**
      * Returns task manager in the file or an empty task manager
      */
     public static XmlSerializableTaskManager loadDataFromSaveFile(File file)
             throws DataConversionException, FileNotFoundException {
+        XmlSerializableTaskManager data;
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableTaskManager.class);
+            data = XmlUtil.getDataFromFile(file, XmlSerializableTaskManager.class);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        if (data.getVersion() > XmlSerializableTaskManager.SCHEMA_VERSION) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(XmlTaskManagerReader.MESSAGE_UNKNOWN_VERSION, data.getVersion())));
+        }
+        return data;
     }
 
 }
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -24,6 +25,16 @@ import seedu.taskmanager.model.task.Task;
         name = "taskmanager")
 public class XmlSerializableTaskManager implements ReadOnlyTaskManager {
 
+    /**
+     * The version of the format written. Version 1 saved dates only as displayed; version 2 also saves their epoch
+     * milliseconds, so they can be read back without parsing.
+     */
+    public static final int SCHEMA_VERSION = 2;
+    /** The version of files saved before the version was written. */
+    public static final int FIRST_SCHEMA_VERSION = 1;
+
+    @XmlAttribute
+    private Integer version;
     @XmlElement
     private List<XmlAdaptedTask> tasks;
     @XmlElement
@@ -42,10 +53,18 @@ public class XmlSerializableTaskManager implements ReadOnlyTaskManager {
      */
     public XmlSerializableTaskManager(ReadOnlyTaskManager src) {
         this();
+        version = SCHEMA_VERSION;
         tasks.addAll(src.getTaskList().stream().map(XmlAdaptedTask::new).collect(Collectors.toList()));
         tags.addAll(src.getTagList().stream().map(XmlAdaptedTag::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the version of the format the data was saved in.
+     */
+    public int getVersion() {
+        return version == null ? FIRST_SCHEMA_VERSION : version;
+    }
+
     @Override
     public ObservableList<ReadOnlyTask> getTaskList() {
         final ObservableList<Task> tasks = this.tasks.stream().map(p -> {
@@ -0,0 +1,229 @@
+package seedu.taskmanager.storage;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.taskmanager.commons.exceptions.DataConversionException;
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
+import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+
+/**
+ * Reads task manager data saved in the format of {@link XmlSerializableTaskManager}, one xml element at a time. Each
+ * task is added to the task manager as soon as it has been read, so the whole file is never held in memory as xml
+ * objects, unlike when unmarshalling it with JAXB.
+ */
+public class XmlTaskManagerReader {
+
+    public static final String MESSAGE_UNKNOWN_VERSION = "The data was saved in a newer format, version %1$s";
+
+    private static final String ROOT_ELEMENT = "taskmanager";
+    private static final String TASK_ELEMENT = "tasks";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String NAME_ELEMENT = "name";
+    private static final String START_DATE_ELEMENT = "startDate";
+    private static final String END_DATE_ELEMENT = "endDate";
+    private static final String TASK_TAG_ELEMENT = "tagged";
+    private static final String DONE_STATUS_ELEMENT = "isDoneStatus";
+    private static final String VERSION_ATTRIBUTE = "version";
+    private static final String EPOCH_MILLIS_ATTRIBUTE = "epochMillis";
+    private static final String HAS_TIME_ATTRIBUTE = "hasTime";
+
+    /**
+     * Returns the task manager saved in {@code file}.
+     * @throws FileNotFoundException
+     *         if the file is missing.
+     * @throws DataConversionException
+     *         if the file is not in the correct format, or its data is not valid.
+     */
+    public static TaskManager read(File file) throws DataConversionException, FileNotFoundException {
+        assert file != null;
+        try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = createInputFactory().createXMLStreamReader(input);
+            try {
+                return readTaskManager(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (XMLStreamException | IllegalValueException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Reads the whole task manager, adding its tasks as one change.
+     * @throws IllegalValueException
+     *         if a saved task or tag is not valid, or a task is saved twice.
+     */
+    private static TaskManager readTaskManager(XMLStreamReader reader)
+            throws XMLStreamException, IllegalValueException {
+        TaskManager taskManager = new TaskManager();
+        List<Tag> savedTags = new ArrayList<>();
+        reader.nextTag();
+        reader.require(XMLStreamConstants.START_ELEMENT, null, ROOT_ELEMENT);
+        checkVersion(reader.getAttributeValue(null, VERSION_ATTRIBUTE));
+        taskManager.beginChange();
+        try {
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                case TASK_ELEMENT:
+                    taskManager.addTask(readTask(reader));
+                    break;
+                case TAG_ELEMENT:
+                    savedTags.add(new Tag(reader.getElementText()));
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+            putSavedTagsFirst(taskManager, savedTags);
+        } finally {
+            taskManager.endChange();
+        }
+        return taskManager;
+    }
+
+    /**
+     * Reads the task whose start element the reader is at, leaving the reader at its end element.
+     */
+    private static Task readTask(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        String name = null;
+        TaskDate startDate = null;
+        TaskDate endDate = null;
+        List<String> tagNames = new ArrayList<>();
+        boolean isDoneStatus = false;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case NAME_ELEMENT:
+                name = reader.getElementText();
+                break;
+            case START_DATE_ELEMENT:
+                startDate = readDate(reader, true);
+                break;
+            case END_DATE_ELEMENT:
+                endDate = readDate(reader, false);
+                break;
+            case TASK_TAG_ELEMENT:
+                tagNames.add(reader.getElementText());
+                break;
+            case DONE_STATUS_ELEMENT:
+                isDoneStatus = parseBoolean(reader.getElementText());
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return XmlAdaptedTask.toModelType(name, startDate, endDate, tagNames, isDoneStatus);
+    }
+
+    /**
+     * Reads the date whose start element the reader is at, leaving the reader at its end element.
+     * @see XmlAdaptedTaskDate
+     */
+    private static TaskDate readDate(XMLStreamReader reader, boolean isStartDate)
+            throws XMLStreamException, IllegalValueException {
+        String epochMillis = reader.getAttributeValue(null, EPOCH_MILLIS_ATTRIBUTE);
+        String hasTime = reader.getAttributeValue(null, HAS_TIME_ATTRIBUTE);
+        String displayedDate = reader.getElementText();
+        return XmlAdaptedTaskDate.toModelType(epochMillis == null ? null : parseLong(epochMillis),
+                hasTime == null ? null : parseBoolean(hasTime), displayedDate, isStartDate);
+    }
+
+    /**
+     * Throws if the data was saved in a newer format than this reader knows.
+     */
+    private static void checkVersion(String version) throws IllegalValueException {
+        if (version != null && parseLong(version) > XmlSerializableTaskManager.SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_VERSION, version));
+        }
+    }
+
+    private static long parseLong(String text) throws IllegalValueException {
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException("Not a number: " + text);
+        }
+    }
+
+    /**
+     * Parses an xml schema boolean, which may be written as true, false, 1 or 0.
+     */
+    private static boolean parseBoolean(String text) throws IllegalValueException {
+        switch (text.trim()) {
+        case "true":
+        case "1":
+            return true;
+        case "false":
+        case "0":
+            return false;
+        default:
+            throw new IllegalValueException("Not a boolean: " + text);
+        }
+    }
+
+    /**
+     * Skips the element whose start element the reader is at, leaving the reader at its end element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Orders the master tag list as it was saved, followed by any tags that were only saved with tasks, as loading the
+     * whole file and then copying it would. The tag objects the tasks point to are kept.
+     */
+    private static void putSavedTagsFirst(TaskManager taskManager, List<Tag> savedTags) {
+        if (savedTags.isEmpty()) {
+            return;
+        }
+        Map<Tag, Tag> taskTags = taskManager.getTagList().stream()
+                .collect(Collectors.toMap(Function.identity(), Function.identity()));
+        Set<Tag> orderedTags = new LinkedHashSet<>();
+        for (Tag savedTag : savedTags) {
+            orderedTags.add(taskTags.getOrDefault(savedTag, savedTag));
+        }
+        orderedTags.addAll(taskManager.getTagList());
+        try {
+            taskManager.setTags(orderedTags);
+        } catch (UniqueTagList.DuplicateTagException e) {
+            assert false : "A set of tags should not have duplicates";
+        }
+    }
+}
@@ -59,7 +59,7 @@ public class XmlTaskManagerStorage implements TaskManagerStorage {
             return Optional.empty();
         }
 
-        ReadOnlyTaskManager taskManagerOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        ReadOnlyTaskManager taskManagerOptional = XmlFileStorage.loadTaskManagerFromSaveFile(new File(filePath));
 
         return Optional.of(taskManagerOptional);
     }
@@ -107,6 +107,6 @@ public class TaskCard extends UiPart<Region> {
     }
 
     private void initTags(ReadOnlyTask task) {
-        task.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        task.getTagSet().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
 }
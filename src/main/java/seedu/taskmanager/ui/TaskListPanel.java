@@ -14,6 +14,7 @@ import javafx.scene.control.SplitPane;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
 import seedu.taskmanager.commons.core.LogsCenter;
+import seedu.taskmanager.commons.events.model.DueSoonStatusChangedEvent;
 import seedu.taskmanager.commons.events.model.TaskUpdatedEvent;
 import seedu.taskmanager.commons.events.ui.TaskPanelSelectionChangedEvent;
 import seedu.taskmanager.commons.util.FxViewUtil;
@@ -75,6 +76,15 @@ public class TaskListPanel extends UiPart<Region> {
         scrollTo(updatedIndex);
     }
 
+    /**
+     * Redraws the task cards, as the due-soon status of tasks does not change the task list itself.
+     */
+    @Subscribe
+    public void handleDueSoonStatusChangedEvent(DueSoonStatusChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Due-soon status changed"));
+        Platform.runLater(taskListView::refresh);
+    }
+
     class TaskListViewCell extends ListCell<ReadOnlyTask> {
 
         @Override
@@ -106,7 +106,9 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
+        // Saving happens on a separate thread, so the alert is shown on the JavaFX application thread
+        Platform.runLater(() -> showFileOperationAlertAndWait("Could not save data", "Could not save data to file",
+                event.exception));
     }
 
     @Subscribe
@@ -73,6 +73,14 @@ public class ConfigUtilTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void read_negativeLimitsInFile_defaultLimitsUsed() throws DataConversionException {
+        Config expected = getTypicalConfig();
+        Config actual = read("InvalidValuesConfig.json").get();
+
+        assertEquals(expected, actual);
+    }
+
     private Config getTypicalConfig() {
         Config config = new Config();
         config.setAppTitle("Typical App Title");
@@ -2,16 +2,22 @@
 package seedu.taskmanager.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.taskmanager.testutil.TaskManagerGenerator.createTaskManager;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.logging.Logger;
 
+import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.taskmanager.commons.core.LogsCenter;
 import seedu.taskmanager.model.TaskManager;
 import seedu.taskmanager.storage.XmlSerializableTaskManager;
 import seedu.taskmanager.testutil.TaskManagerBuilder;
@@ -19,11 +25,14 @@ import seedu.taskmanager.testutil.TestUtil;
 
 public class XmlUtilTest {
 
+    private static final Logger logger = LogsCenter.getLogger(XmlUtilTest.class);
+
     private static final String TEST_DATA_FOLDER = FileUtil.getPath("src/test/data/XmlUtilTest/");
     private static final File EMPTY_FILE = new File(TEST_DATA_FOLDER + "empty.xml");
     private static final File MISSING_FILE = new File(TEST_DATA_FOLDER + "missing.xml");
     private static final File VALID_FILE = new File(TEST_DATA_FOLDER + "validTaskManager.xml");
     private static final File TEMP_FILE = new File(TestUtil.getFilePathInSandboxFolder("tempTaskManager.xml"));
+    private static final File LARGE_TEMP_FILE = new File(TestUtil.getFilePathInSandboxFolder("largeTaskManager.xml"));
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -94,4 +103,48 @@ public class XmlUtilTest {
         dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableTaskManager.class);
         assertEquals((new TaskManager(dataToWrite)).toString(), (new TaskManager(dataFromFile)).toString());
     }
+
+    @Test
+    public void getContext_sameClass_builtOnce() throws Exception {
+        assertSame(XmlUtil.getContext(XmlSerializableTaskManager.class),
+                XmlUtil.getContext(XmlSerializableTaskManager.class));
+    }
+
+    /**
+     * Logs the time taken to save a file of 10,000 tasks through {@link XmlUtil}, which keeps its JAXB context and
+     * marshaller, and by building them for every save as it used to.
+     */
+    @Test
+    public void saveDataToFile_tenThousandTasks_allTasksSaved() throws Exception {
+        final int rounds = 5;
+        LARGE_TEMP_FILE.createNewFile();
+        XmlSerializableTaskManager data = new XmlSerializableTaskManager(createTaskManager(10000));
+        saveWithNewContext(data);
+        XmlUtil.saveDataToFile(LARGE_TEMP_FILE, data);
+
+        long newContextNanos = 0;
+        long cachedNanos = 0;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            saveWithNewContext(data);
+            newContextNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            XmlUtil.saveDataToFile(LARGE_TEMP_FILE, data);
+            cachedNanos += System.nanoTime() - start;
+        }
+
+        long newContextMillis = newContextNanos / rounds / 1000000;
+        long cachedMillis = cachedNanos / rounds / 1000000;
+        logger.info("per save: " + newContextMillis + " ms with a new context, " + cachedMillis + " ms cached");
+        assertEquals(10000, XmlUtil.getDataFromFile(LARGE_TEMP_FILE, XmlSerializableTaskManager.class)
+                .getTaskList().size());
+        LARGE_TEMP_FILE.delete();
+    }
+
+    private static void saveWithNewContext(XmlSerializableTaskManager data) throws JAXBException {
+        Marshaller marshaller = JAXBContext.newInstance(XmlSerializableTaskManager.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.marshal(data, LARGE_TEMP_FILE);
+    }
 }
@@ -68,6 +68,23 @@ public class LogicAddCommandTest extends LogicManagerTest {
                 expectedAB, expectedAB.getTaskList());
     }
 
+    @Test
+    public void execute_addOverlappingEvent_conflictsListed() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task overlapped = helper.generateTaskWithAll("Overlapped", "1/1/2030 6pm", "1/1/2030 8pm");
+        Task notOverlapped = helper.generateTaskWithAll("Not overlapped", "2/1/2030 6pm", "2/1/2030 8pm");
+        Task toBeAdded = helper.generateTaskWithAll("Overlapping", "1/1/2030 7pm", "1/1/2030 9pm");
+        helper.addToModel(model, helper.generateTaskList(overlapped, notOverlapped));
+
+        TaskManager expectedAB = helper.generateTaskManager(helper.generateTaskList(overlapped, notOverlapped));
+        expectedAB.addTask(toBeAdded);
+        String expectedMessage = AddCommand.MESSAGE_SUCCESS + "\n" + AddCommand.MESSAGE_CONFLICT + "\n"
+                + overlapped.getAsText() + "\n";
+
+        assertCommandSuccess(helper.generateAddCommand(toBeAdded), expectedMessage, expectedAB,
+                expectedAB.getTaskList());
+    }
+
     @Test
     public void execute_addDuplicate_notAllowed() throws Exception {
         // setup expectations
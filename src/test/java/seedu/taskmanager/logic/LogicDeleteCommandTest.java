@@ -7,7 +7,9 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.taskmanager.commons.core.Messages;
 import seedu.taskmanager.logic.commands.DeleteCommand;
+import seedu.taskmanager.logic.commands.UndoCommand;
 import seedu.taskmanager.model.TaskManager;
 import seedu.taskmanager.model.task.Task;
 
@@ -37,4 +39,33 @@ public class LogicDeleteCommandTest extends LogicManagerTest {
                 expectedAB, expectedAB.getTaskList());
     }
 
+    @Test
+    public void execute_deleteInvalidIndexList_errorMessageShown() throws Exception {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE);
+        assertCommandFailure("delete 3-1", expectedMessage);
+        assertCommandFailure("delete 1-", expectedMessage);
+        assertCommandFailure("delete 1 two", expectedMessage);
+        assertCommandFailure("delete 1-99999999999", expectedMessage);
+        assertCommandFailure("delete 2147483640-2147483647", Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_deleteRangeAndList_removesTasksAsOneChange() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> sixTasks = helper.generateTaskList(6);
+        TaskManager expectedBefore = helper.generateTaskManager(sixTasks);
+        TaskManager expectedAfter = helper.generateTaskManager(sixTasks);
+        for (int i : new int[] {1, 2, 3, 5}) {
+            expectedAfter.removeTask(sixTasks.get(i));
+        }
+        helper.addToModel(model, sixTasks);
+        model.saveState("add");
+
+        assertCommandFailure("delete 2 5-7", Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+
+        assertCommandSuccess("delete 2-4, 6 3", String.format(DeleteCommand.MESSAGE_DELETE_TASKS_SUCCESS, 4),
+                expectedAfter, expectedAfter.getTaskList());
+        assertCommandSuccess("undo", UndoCommand.MESSAGE_SUCCESS, expectedBefore, expectedBefore.getTaskList());
+    }
+
 }
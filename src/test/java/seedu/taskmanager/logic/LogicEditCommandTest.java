@@ -129,7 +129,7 @@ public class LogicEditCommandTest extends LogicManagerTest {
         Task editedTask2 = helper.generateTaskWithName("lol");
 
         List<Task> sampleTasks = helper.generateTaskList(task1, task2);
-        TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
+        TaskManager expectedTM = helper.generateTaskManager(helper.generateTaskList(task1, editedTask2));
         List<Task> expectedList = helper.generateTaskList(editedTask2, task1);
         helper.addToModel(model, sampleTasks);
 
@@ -145,8 +145,8 @@ public class LogicEditCommandTest extends LogicManagerTest {
         Task editedTask = helper.generateTaskWithAll("potato", "11/11/2011 11am", "12/12/2012 12am");
 
         List<Task> sampleTasks = helper.generateTaskList(task);
-        TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
         List<Task> expectedList = helper.generateTaskList(editedTask);
+        TaskManager expectedTM = helper.generateTaskManager(expectedList);
         helper.addToModel(model, sampleTasks);
 
         String expectedMessage = String.format(EditCommand.MESSAGE_SUCCESS, editedTask);
@@ -161,8 +161,8 @@ public class LogicEditCommandTest extends LogicManagerTest {
         Task editedTask = helper.generateTaskWithDueDate("potato", "17 july 2017 1:34pm");
 
         List<Task> sampleTasks = helper.generateTaskList(task);
-        TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
         List<Task> expectedList = helper.generateTaskList(editedTask);
+        TaskManager expectedTM = helper.generateTaskManager(expectedList);
         helper.addToModel(model, sampleTasks);
 
         String expectedMessage = String.format(EditCommand.MESSAGE_SUCCESS, editedTask);
@@ -178,8 +178,8 @@ public class LogicEditCommandTest extends LogicManagerTest {
         Task editedTask = helper.generateTaskWithAll("potato", "next hour", "1/2/2023 4.56pm");
 
         List<Task> sampleTasks = helper.generateTaskList(task);
-        TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
         List<Task> expectedList = helper.generateTaskList(editedTask);
+        TaskManager expectedTM = helper.generateTaskManager(expectedList);
         helper.addToModel(model, sampleTasks);
 
         String expectedMessage = String.format(EditCommand.MESSAGE_SUCCESS, editedTask);
@@ -195,8 +195,8 @@ public class LogicEditCommandTest extends LogicManagerTest {
         Task editedTask = helper.generateTaskWithDueDate("potato", "17 july 2017 1:34pm");
 
         List<Task> sampleTasks = helper.generateTaskList(task);
-        TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
         List<Task> expectedList = helper.generateTaskList(editedTask);
+        TaskManager expectedTM = helper.generateTaskManager(expectedList);
         helper.addToModel(model, sampleTasks);
 
         String expectedMessage = String.format(EditCommand.MESSAGE_SUCCESS, editedTask);
@@ -211,8 +211,8 @@ public class LogicEditCommandTest extends LogicManagerTest {
         Task editedTask = helper.generateTaskWithName("potato");
 
         List<Task> sampleTasks = helper.generateTaskList(task);
-        TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
         List<Task> expectedList = helper.generateTaskList(editedTask);
+        TaskManager expectedTM = helper.generateTaskManager(expectedList);
         helper.addToModel(model, sampleTasks);
 
         String expectedMessage = String.format(EditCommand.MESSAGE_SUCCESS, editedTask);
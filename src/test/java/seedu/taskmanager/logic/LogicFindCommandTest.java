@@ -71,4 +71,28 @@ public class LogicFindCommandTest extends LogicManagerTest {
                 expectedAB, expectedList);
     }
 
+    @Test
+    public void execute_find_conjunctionMatchesOnlyIfAllKeywordsPresent() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task pTarget1 = helper.generateTaskWithName("project meeting");
+        Task pTarget2 = helper.generateTaskWithName("Meeting about PROJECT");
+        Task pTarget3 = helper.generateTaskWithName("dinner");
+        Task p1 = helper.generateTaskWithName("project report");
+        Task p2 = helper.generateTaskWithName("meeting");
+
+        List<Task> fiveTasks = helper.generateTaskList(pTarget1, p1, pTarget2, p2, pTarget3);
+        TaskManager expectedAB = helper.generateTaskManager(fiveTasks);
+        List<Task> expectedList = helper.generateTaskList(pTarget1, pTarget2, pTarget3);
+        helper.addToModel(model, fiveTasks);
+
+        assertCommandSuccess("find project&meeting dinner",
+                Command.getMessageForTaskListShownSummary(expectedList.size()), expectedAB, expectedList);
+    }
+
+    @Test
+    public void execute_find_onlyConjunctions_invalidArgsFormat() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertCommandFailure("find & &&", expectedMessage);
+    }
+
 }
@@ -1,14 +1,18 @@
 
 package seedu.taskmanager.logic;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.taskmanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
 import seedu.taskmanager.logic.commands.ListCommand;
 import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.tag.Tag;
 import seedu.taskmanager.model.task.ReadOnlyTask;
 import seedu.taskmanager.model.task.Task;
 
@@ -121,6 +125,47 @@ public class LogicListCommandTest extends LogicManagerTest {
         assertCommandSuccess(validCommand, expectedMessage, expectedTM, expectedList);
     }
 
+    @Test
+    public void execute_list_tag() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task task1 = helper.generateTask(1);
+        Task task2 = helper.generateTask(2);
+        Task task3 = helper.generateTask(3);
+
+        List<Task> sampleTasks = helper.generateTaskList(task1, task2, task3);
+        TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
+        List<Task> expectedList = helper.generateTaskList(task1, task2);
+        helper.addToModel(model, sampleTasks);
+
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS + " ([tag2])";
+        assertCommandSuccess("list t/tag2", expectedMessage, expectedTM, expectedList);
+    }
+
+    @Test
+    public void execute_list_invalidTag() throws Exception {
+        assertCommandFailure("list t/not a tag", Tag.MESSAGE_TAG_CONSTRAINTS);
+    }
+
+    @Test
+    public void execute_listDateThenUndo_filterReapplied() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task float1 = helper.generateTaskWithName("potato");
+        Task deadline1 = helper.generateTaskWithDueDate("orange", "1 jan 2030");
+        Task event1 = helper.generateTaskWithAll("poiuy", "1 jan 2030", "31 jan 2030");
+        for (Task task : helper.generateTaskList(float1, deadline1, event1)) {
+            logic.execute(helper.generateAddCommand(task));
+        }
+
+        logic.execute("list 1 jan 2030");
+        assertEquals(Arrays.asList("orange", "poiuy"), getFilteredTaskNames());
+
+        logic.execute("delete 1");
+        assertEquals(Arrays.asList("poiuy"), getFilteredTaskNames());
+
+        logic.execute("undo");
+        assertEquals(Arrays.asList("orange", "poiuy"), getFilteredTaskNames());
+    }
+
     @Test
     public void execute_list_deadlineAndDate() throws Exception {
         TestDataHelper helper = new TestDataHelper();
@@ -172,11 +217,11 @@ public class LogicListCommandTest extends LogicManagerTest {
         Task event2 = helper.generateTaskWithAll("esmond", "15 june 2017 12pm", "19 july 2017 1am");
 
         Task doneFloat1 = helper.generateTaskWithName("potato");
-        float1.setDoneStatus(true);
+        float1 = new Task.Builder(float1).setDoneStatus(true).build();
         Task doneDeadline3 = helper.generateTaskWithDueDate("zxc", "19 nov");
-        deadline3.setDoneStatus(true);
+        deadline3 = new Task.Builder(deadline3).setDoneStatus(true).build();
         Task doneEvent1 = helper.generateTaskWithAll("poiuy", "1 jan", "31 jan");
-        event1.setDoneStatus(true);
+        event1 = new Task.Builder(event1).setDoneStatus(true).build();
 
         List<Task> sampleTasks = helper.generateTaskList(float1, deadline1, deadline2, deadline3, event1, event2);
         TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
@@ -198,9 +243,9 @@ public class LogicListCommandTest extends LogicManagerTest {
         Task event1 = helper.generateTaskWithAll("poiuy", "1 jan", "31 jan");
         Task event2 = helper.generateTaskWithAll("esmond", "15 june 2017 12pm", "19 july 2017 1am");
 
-        float1.setDoneStatus(true);
-        deadline3.setDoneStatus(true);
-        event1.setDoneStatus(true);
+        float1 = new Task.Builder(float1).setDoneStatus(true).build();
+        deadline3 = new Task.Builder(deadline3).setDoneStatus(true).build();
+        event1 = new Task.Builder(event1).setDoneStatus(true).build();
 
         List<Task> sampleTasks = helper.generateTaskList(float1, deadline1, deadline2, deadline3, event1, event2);
         TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
@@ -212,4 +257,8 @@ public class LogicListCommandTest extends LogicManagerTest {
         assertCommandSuccess(validCommand, expectedMessage, expectedTM, expectedList);
     }
 
+    private List<String> getFilteredTaskNames() {
+        return model.getFilteredTaskList().stream().map(task -> task.getName().fullName).collect(Collectors.toList());
+    }
+
 }
@@ -1,6 +1,7 @@
 
 package seedu.taskmanager.logic;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.taskmanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.List;
@@ -78,7 +79,7 @@ public class LogicMarkCommandTest extends LogicManagerTest {
         // setup expectations
         TestDataHelper helper = new TestDataHelper();
         Task task1 = helper.meeting();
-        task1.setDoneStatus(true);
+        task1 = new Task.Builder(task1).setDoneStatus(true).build();
 
         // setup starting state
         model.addTask(task1); // task already in internal task manager
@@ -95,7 +96,7 @@ public class LogicMarkCommandTest extends LogicManagerTest {
         Task task1 = helper.meeting();
         Task task2 = helper.homework();
         Task doneTask2 = helper.homework();
-        doneTask2.setDoneStatus(true);
+        doneTask2 = new Task.Builder(doneTask2).setDoneStatus(true).build();
 
         List<Task> sampleTasks = helper.generateTaskList(task1, task2);
         TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
@@ -113,7 +114,7 @@ public class LogicMarkCommandTest extends LogicManagerTest {
         Task task1 = helper.meeting();
         Task task2 = helper.homework();
         Task undoneTask1 = helper.meeting();
-        task1.setDoneStatus(true);
+        task1 = new Task.Builder(task1).setDoneStatus(true).build();
 
         List<Task> sampleTasks = helper.generateTaskList(task1, task2);
         TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
@@ -125,4 +126,30 @@ public class LogicMarkCommandTest extends LogicManagerTest {
         assertCommandSuccess(validCommand, expectedMessage, expectedTM, expectedList);
     }
 
+    @Test
+    public void execute_markRangeAndList_marksTasksNotAlreadyMarked() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> fourTasks = helper.generateTaskList(4);
+        fourTasks.set(1, new Task.Builder(fourTasks.get(1)).setDoneStatus(true).build());
+        TaskManager expectedTM = helper.generateTaskManager(fourTasks);
+        helper.addToModel(model, fourTasks);
+
+        assertCommandSuccess("mark 1-3 done", String.format(MarkCommand.MESSAGE_SUCCESS_MULTIPLE, 2, "done"),
+                expectedTM, expectedTM.getTaskList());
+        assertDoneStatuses(true, true, true, false);
+
+        assertCommandFailure("mark 2 1 done", MarkCommand.MESSAGE_ALREADY_DONE);
+        assertCommandFailure("mark 3-5 undone", Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+
+        assertCommandSuccess("mark 2,4 3 undone", String.format(MarkCommand.MESSAGE_SUCCESS_MULTIPLE, 2, "undone"),
+                expectedTM, expectedTM.getTaskList());
+        assertDoneStatuses(true, false, false, false);
+    }
+
+    private void assertDoneStatuses(boolean... expectedStatuses) {
+        for (int i = 0; i < expectedStatuses.length; i++) {
+            assertEquals(expectedStatuses[i], model.getTaskManager().getTaskList().get(i).isDone());
+        }
+    }
+
 }
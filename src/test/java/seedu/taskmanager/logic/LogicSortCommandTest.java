@@ -0,0 +1,81 @@
+package seedu.taskmanager.logic;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.taskmanager.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.taskmanager.logic.commands.DeleteCommand;
+import seedu.taskmanager.logic.commands.ListCommand;
+import seedu.taskmanager.logic.commands.SortCommand;
+import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.task.Task;
+
+public class LogicSortCommandTest extends LogicManagerTest {
+
+    @Test
+    public void execute_sort_invalidArgsFormat() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertCommandFailure("sort size", expectedMessage);
+        assertCommandFailure("sort none", expectedMessage);
+    }
+
+    @Test
+    public void execute_sortByName_thenUnsorted() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task banana = helper.generateTaskWithName("banana");
+        Task apple = helper.generateTaskWithName("Apple");
+        Task cherry = helper.generateTaskWithName("cherry");
+
+        List<Task> sampleTasks = helper.generateTaskList(banana, apple, cherry);
+        TaskManager expectedTM = helper.generateTaskManager(sampleTasks);
+        helper.addToModel(model, sampleTasks);
+
+        assertCommandSuccess("sort name", String.format(SortCommand.MESSAGE_SUCCESS, "name"), expectedTM,
+                helper.generateTaskList(apple, banana, cherry));
+        assertShownList(apple, banana, cherry);
+        assertCommandSuccess("sort", SortCommand.MESSAGE_UNSORTED, expectedTM, sampleTasks);
+        assertShownList(banana, apple, cherry);
+    }
+
+    @Test
+    public void execute_sortByDeadline_keptSortedAfterAdd() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task later = helper.generateTaskWithDueDate("later", "1 mar 2030 10am");
+        Task floating = helper.generateTaskWithName("floating");
+        Task earlier = helper.generateTaskWithDueDate("earlier", "1 jan 2030 10am");
+
+        List<Task> sampleTasks = helper.generateTaskList(later, floating, earlier);
+        helper.addToModel(model, sampleTasks);
+        logic.execute("sort deadline");
+
+        Task middle = helper.generateTaskWithDueDate("middle", "1 feb 2030 10am");
+        TaskManager expectedTM = helper.generateTaskManager(helper.generateTaskList(later, floating, earlier, middle));
+        model.addTask(middle);
+        assertCommandSuccess("list", ListCommand.MESSAGE_SUCCESS, expectedTM,
+                helper.generateTaskList(earlier, middle, later, floating));
+        assertShownList(earlier, middle, later, floating);
+    }
+
+    @Test
+    public void execute_deleteAfterSort_deletesShownTask() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task banana = helper.generateTaskWithName("banana");
+        Task apple = helper.generateTaskWithName("apple");
+
+        helper.addToModel(model, helper.generateTaskList(banana, apple));
+        logic.execute("sort name");
+
+        TaskManager expectedTM = helper.generateTaskManager(helper.generateTaskList(banana));
+        assertCommandSuccess("delete 1", String.format(DeleteCommand.MESSAGE_DELETE_TASK_SUCCESS, apple), expectedTM,
+                expectedTM.getTaskList());
+    }
+
+    private void assertShownList(Task... expectedTasks) {
+        List<Task> expectedShownList = new TestDataHelper().generateTaskList(expectedTasks);
+        assertEquals(expectedShownList, new ArrayList<>(model.getFilteredTaskList()));
+    }
+}
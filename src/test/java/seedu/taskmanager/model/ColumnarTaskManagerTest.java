@@ -0,0 +1,88 @@
+package seedu.taskmanager.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.taskmanager.testutil.TaskManagerGenerator.createTaskManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import seedu.taskmanager.commons.core.LogsCenter;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+
+public class ColumnarTaskManagerTest {
+
+    private static final Logger logger = LogsCenter.getLogger(ColumnarTaskManagerTest.class);
+
+    @Test
+    public void getTaskList_copyOfTaskManager_sameTasksAndTags() throws Exception {
+        TaskManager taskManager = createTaskManager(50);
+
+        ColumnarTaskManager columnar = new ColumnarTaskManager(taskManager);
+
+        List<ReadOnlyTask> expectedTasks = taskManager.getTaskList();
+        List<ReadOnlyTask> actualTasks = columnar.getTaskList();
+        assertEquals(expectedTasks.size(), actualTasks.size());
+        for (int i = 0; i < expectedTasks.size(); i++) {
+            ReadOnlyTask expected = expectedTasks.get(i);
+            ReadOnlyTask actual = actualTasks.get(i);
+            assertTrue(actual.isSameStateAs(expected));
+            assertEquals(expected.getAsText(), actual.getAsText());
+            assertEquals(expected.getTags(), actual.getTags());
+            assertEquals(expected.isDone(), actual.isDone());
+            assertEquals(expected.isDueSoon(), actual.isDueSoon());
+            assertEquals(expected.isFloating(), actual.isFloating());
+            assertEquals(expected.isDeadline(), actual.isDeadline());
+        }
+        assertEquals(new ArrayList<>(taskManager.getTagList()), new ArrayList<>(columnar.getTagList()));
+        assertEquals(taskManager, new TaskManager(columnar));
+    }
+
+    @Test
+    public void hashCode_equalRowWithOtherTags_sameHashCode() throws Exception {
+        TaskManager taskManager = createTaskManager(3);
+        ReadOnlyTask task = taskManager.getTaskList().get(2);
+        TaskManager untaggedTaskManager = new TaskManager();
+        untaggedTaskManager.addTask(new Task(task.getName(), task.getStartDate(), task.getEndDate(),
+                new UniqueTagList(), false));
+
+        ReadOnlyTask row = new ColumnarTaskManager(taskManager).getTaskList().get(2);
+        ReadOnlyTask untaggedRow = new ColumnarTaskManager(untaggedTaskManager).getTaskList().get(0);
+        assertEquals(untaggedRow, row);
+        assertEquals(untaggedRow.hashCode(), row.hashCode());
+    }
+
+    /**
+     * Logs the heap taken by many tasks in a task manager and in a columnar copy of it. The figures are only a guide,
+     * so they are not compared.
+     */
+    @Test
+    public void constructor_manyTasks_allTasksCopiedAndFootprintsLogged() throws Exception {
+        final int taskCount = 20000;
+        long baseline = getUsedHeap();
+
+        TaskManager taskManager = createTaskManager(taskCount);
+        long taskManagerFootprint = getUsedHeap() - baseline;
+
+        // the columnar copy shares names and tags with the task manager, so measure it once the original is gone
+        ColumnarTaskManager columnar = new ColumnarTaskManager(taskManager);
+        taskManager = null;
+        long columnarFootprint = getUsedHeap() - baseline;
+
+        assertEquals(taskCount, columnar.size());
+        logger.info("columnar: " + columnarFootprint + " bytes, task manager: " + taskManagerFootprint + " bytes");
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
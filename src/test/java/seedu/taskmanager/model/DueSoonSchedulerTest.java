@@ -0,0 +1,90 @@
+package seedu.taskmanager.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+
+public class DueSoonSchedulerTest {
+
+    private static final long HOUR = 3600000L;
+
+    private long now = 1000 * HOUR;
+    private final DueSoonScheduler scheduler = new DueSoonScheduler(() -> now);
+
+    @Test
+    public void tick_timePasses_tasksBecomeDueSoonInOrder() throws Exception {
+        scheduler.setWindow(2 * HOUR);
+        Task inThreeHours = createDeadline("report", now + 3 * HOUR);
+        Task inFiveHours = createDeadline("essay", now + 5 * HOUR);
+        Task inOneHour = new Task.Builder(createDeadline("call", now + HOUR)).setDueSoonStatus(true).build();
+        scheduler.add(inThreeHours);
+        scheduler.add(inFiveHours);
+        scheduler.add(inOneHour);
+
+        assertTrue(scheduler.isDueSoon(inOneHour));
+        assertFalse(scheduler.isDueSoon(inThreeHours));
+        assertEquals(now + HOUR, scheduler.getNextDueSoonTime());
+
+        now += HOUR;
+        assertEquals(Collections.emptyList(), scheduler.tick());
+        now += 1;
+        assertEquals(Collections.singletonList(inThreeHours), scheduler.tick());
+        assertTrue(scheduler.isDueSoon(inThreeHours));
+        assertFalse(scheduler.isDueSoon(inFiveHours));
+
+        now += 3 * HOUR;
+        assertEquals(Collections.singletonList(inFiveHours), scheduler.tick());
+        assertEquals(Long.MAX_VALUE, scheduler.getNextDueSoonTime());
+        assertFalse(inFiveHours.isDueSoon());
+    }
+
+    @Test
+    public void tick_removedOrDoneTask_notReported() throws Exception {
+        scheduler.setWindow(HOUR);
+        Task removed = createDeadline("removed", now + 2 * HOUR);
+        Task done = createDeadline("done", now + 2 * HOUR);
+        done = new Task.Builder(done).setDoneStatus(true).build();
+        Task floating = new Task(new Name("floating"), new UniqueTagList());
+        Task kept = createDeadline("kept", now + 2 * HOUR);
+        for (Task task : Arrays.asList(removed, done, floating, kept)) {
+            scheduler.add(task);
+        }
+        scheduler.remove(removed);
+
+        now += 2 * HOUR;
+        assertEquals(Collections.singletonList(kept), scheduler.tick());
+        assertFalse(scheduler.isDueSoon(done));
+        assertFalse(scheduler.isDueSoon(floating));
+    }
+
+    @Test
+    public void setWindow_changed_statusRecomputed() throws Exception {
+        scheduler.setWindow(HOUR);
+        Task task = createDeadline("report", now + 2 * HOUR);
+        scheduler.add(task);
+        assertFalse(scheduler.isDueSoon(task));
+
+        scheduler.setWindow(3 * HOUR);
+        assertTrue(scheduler.isDueSoon(task));
+        assertEquals(Long.MAX_VALUE, scheduler.getNextDueSoonTime());
+
+        scheduler.setWindow(HOUR);
+        scheduler.add(task);
+        assertFalse(scheduler.isDueSoon(task));
+        assertEquals(now + HOUR, scheduler.getNextDueSoonTime());
+    }
+
+    private static Task createDeadline(String name, long dueTime) throws Exception {
+        return new Task(new Name(name), null, new TaskDate(dueTime, true), new UniqueTagList());
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.taskmanager.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import seedu.taskmanager.commons.core.Config;
+import seedu.taskmanager.commons.core.Config.UndoEngine;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+
+/**
+ * Runs readers on several threads against a writer issuing thousands of commands. The writer only ever adds, edits
+ * and deletes tasks in pairs, so a reader that sees an odd number of tasks, or the two tasks of a pair in different
+ * states, has seen a change half made.
+ */
+public class ModelManagerConcurrencyTest {
+
+    private static final int COMMAND_COUNT = 2000;
+    private static final int READER_COUNT = 2;
+    private static final long JAN_1_2030 = 1893456000000L;
+    private static final long HOUR = 3600000L;
+
+    private final AtomicReference<Throwable> readerFailure = new AtomicReference<>();
+    private final AtomicInteger snapshotsRead = new AtomicInteger();
+
+    @Test
+    public void concurrentReaders_snapshotEngine_neverSeeHalfMadeChanges() throws Exception {
+        assertReadersNeverSeeHalfMadeChanges(UndoEngine.SNAPSHOT);
+    }
+
+    @Test
+    public void concurrentReaders_journalEngine_neverSeeHalfMadeChanges() throws Exception {
+        assertReadersNeverSeeHalfMadeChanges(UndoEngine.JOURNAL);
+    }
+
+    private void assertReadersNeverSeeHalfMadeChanges(UndoEngine undoEngine) throws Exception {
+        Config config = new Config();
+        config.setUndoEngine(undoEngine);
+        ModelManager model = new ModelManager(new TaskManager(), new UserPrefs(), config);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            Thread reader = new Thread(() -> readUntilDone(model, isWriting), "reader-" + i);
+            reader.start();
+            readers.add(reader);
+        }
+        try {
+            issueCommands(model);
+        } finally {
+            isWriting.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        if (readerFailure.get() != null) {
+            throw new AssertionError("A reader saw an inconsistent task manager", readerFailure.get());
+        }
+        assertTrue(snapshotsRead.get() > 0);
+        assertEquals(new TaskManager(model.getTaskManager()), new TaskManager(model.getTaskManagerSnapshot()));
+    }
+
+    private void issueCommands(ModelManager model) throws Exception {
+        Random random = new Random(0);
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            List<ReadOnlyTask> tasks = model.getFilteredTaskList();
+            int operation = tasks.isEmpty() ? 0 : random.nextInt(6);
+            if (operation < 2) {
+                model.addTasks(Arrays.asList(createTask("first", i), createTask("second", i)));
+            } else if (operation == 2) {
+                ReadOnlyTask first = tasks.get(random.nextInt(tasks.size()));
+                model.deleteTasks(Arrays.asList(first, getPartner(tasks, first)));
+            } else if (operation == 3) {
+                ReadOnlyTask first = tasks.get(random.nextInt(tasks.size()));
+                ReadOnlyTask second = getPartner(tasks, first);
+                boolean isDone = !first.isDone();
+                model.applyBatch(Arrays.asList(
+                        TaskMutation.update(first, new Task.Builder(first).setDoneStatus(isDone).build()),
+                        TaskMutation.update(second, new Task.Builder(second).setDoneStatus(isDone).build())));
+            } else if (operation == 4) {
+                model.loadPreviousState();
+                continue;
+            } else {
+                model.resetData(new TaskManager(model.getTaskManager()));
+            }
+            model.saveState("command " + i);
+        }
+    }
+
+    private void readUntilDone(ModelManager model, AtomicBoolean isWriting) {
+        try {
+            while (isWriting.get() && readerFailure.get() == null) {
+                assertConsistent(model.getTaskManagerSnapshot());
+                model.getEventsOverlapping(new TaskDate(JAN_1_2030, true), new TaskDate(JAN_1_2030 + HOUR, true));
+                model.getNextDueSoonTime();
+                snapshotsRead.incrementAndGet();
+                Thread.yield();
+            }
+        } catch (Throwable t) {
+            readerFailure.compareAndSet(null, t);
+        }
+    }
+
+    private static void assertConsistent(ReadOnlyTaskManager snapshot) {
+        List<ReadOnlyTask> tasks = snapshot.getTaskList();
+        Set<Tag> tags = new HashSet<>(snapshot.getTagList());
+        Map<String, Boolean> doneStatusByPair = new HashMap<>();
+        for (ReadOnlyTask task : tasks) {
+            assertTrue(tags.containsAll(task.getTagSet()));
+            String pair = task.getName().fullName.split(" ")[1];
+            Boolean partnerDoneStatus = doneStatusByPair.remove(pair);
+            if (partnerDoneStatus == null) {
+                doneStatusByPair.put(pair, task.isDone());
+            } else {
+                assertEquals(partnerDoneStatus, task.isDone());
+            }
+        }
+        assertFalse("Every task should have its partner", tasks.size() % 2 != 0 || !doneStatusByPair.isEmpty());
+    }
+
+    private static ReadOnlyTask getPartner(List<ReadOnlyTask> tasks, ReadOnlyTask task) {
+        String[] words = task.getName().fullName.split(" ");
+        String partnerName = (words[0].equals("first") ? "second " : "first ") + words[1];
+        return tasks.stream().filter(other -> other.getName().fullName.equals(partnerName)).findFirst().get();
+    }
+
+    private static Task createTask(String prefix, int pair) throws Exception {
+        long start = JAN_1_2030 + (pair % 48) * HOUR;
+        return new Task(new Name(prefix + " " + pair), new TaskDate(start, true), new TaskDate(start + HOUR, true),
+                new UniqueTagList(new Tag("tag" + pair % 7)));
+    }
+}
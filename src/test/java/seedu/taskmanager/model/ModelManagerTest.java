@@ -0,0 +1,287 @@
+package seedu.taskmanager.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.taskmanager.commons.core.Config;
+import seedu.taskmanager.commons.core.Config.UndoEngine;
+import seedu.taskmanager.commons.core.EventsCenter;
+import seedu.taskmanager.commons.events.model.DueSoonStatusChangedEvent;
+import seedu.taskmanager.commons.events.model.TaskManagerChangedEvent;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+import seedu.taskmanager.model.task.UniqueTaskList.DuplicateTaskException;
+import seedu.taskmanager.model.task.UniqueTaskList.TaskNotFoundException;
+import seedu.taskmanager.testutil.TestTask;
+import seedu.taskmanager.testutil.TypicalTestTasks;
+
+public class ModelManagerTest {
+
+    private int changedEventCount;
+    private TaskManagerChangedEvent lastChangedEvent;
+    private final List<DueSoonStatusChangedEvent> dueSoonEvents = new ArrayList<>();
+
+    @Subscribe
+    private void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
+        changedEventCount++;
+        lastChangedEvent = event;
+    }
+
+    @Subscribe
+    private void handleDueSoonStatusChangedEvent(DueSoonStatusChangedEvent event) {
+        dueSoonEvents.add(event);
+    }
+
+    @Before
+    public void setUp() {
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void addTasks_batch_oneEventAndOneUndoState() throws Exception {
+        assertBatchIsOneChange(UndoEngine.SNAPSHOT);
+        assertBatchIsOneChange(UndoEngine.JOURNAL);
+    }
+
+    @Test
+    public void addTasks_newTasks_addedInOrder() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        ModelManager model = new ModelManager();
+        model.addTask(new Task(td.event1));
+
+        model.addTasks(Arrays.asList(new Task(td.ddl1), new Task(td.flt1)));
+
+        assertEquals(Arrays.asList(new Task(td.event1), new Task(td.ddl1), new Task(td.flt1)),
+                model.getTaskManager().getTaskList());
+    }
+
+    @Test
+    public void addTasks_duplicateTask_nothingAdded() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        ModelManager model = new ModelManager();
+        model.addTask(new Task(td.event1));
+        changedEventCount = 0;
+
+        try {
+            model.addTasks(Arrays.asList(new Task(td.ddl1), new Task(td.event1)));
+            fail("A batch adding an existing task should fail");
+        } catch (DuplicateTaskException e) {
+            assertEquals(Arrays.asList(new Task(td.event1)), model.getTaskManager().getTaskList());
+            assertEquals(0, changedEventCount);
+        }
+    }
+
+    @Test
+    public void applyBatch_failingMutation_nothingChanged() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        for (UndoEngine undoEngine : UndoEngine.values()) {
+            ModelManager model = new ModelManager(new TaskManager(), new UserPrefs(), createConfig(undoEngine));
+            model.addTasks(Arrays.asList(new Task(td.event1), new Task(td.ddl1)));
+            model.saveState("add");
+            TaskManager expected = new TaskManager(model.getTaskManager());
+            changedEventCount = 0;
+
+            try {
+                model.applyBatch(Arrays.asList(TaskMutation.add(new Task(td.flt1)),
+                        TaskMutation.update(td.event1, td.event2), TaskMutation.delete(td.flt3)));
+                fail("A batch deleting a missing task should fail");
+            } catch (TaskNotFoundException e) {
+                assertEquals(expected, new TaskManager(model.getTaskManager()));
+                assertEquals(expected.getTagList(), model.getTaskManager().getTagList());
+                assertEquals(0, changedEventCount);
+            }
+
+            model.saveState("failed batch");
+            model.loadPreviousState();
+            assertEquals(expected, new TaskManager(model.getTaskManager()));
+        }
+    }
+
+    @Test
+    public void setNotification_taskBecomesDueSoon_snapshotPublishedWithoutChangeEvent() throws Exception {
+        final long day = 24 * 3600000L;
+        ModelManager model = new ModelManager();
+        model.addTask(new Task(new Name("report"), null, new TaskDate(System.currentTimeMillis() + 5 * day, true),
+                new UniqueTagList()));
+        ReadOnlyTaskManager before = model.getTaskManagerSnapshot();
+        changedEventCount = 0;
+
+        try {
+            model.setNotification("7 days");
+
+            assertEquals(0, changedEventCount);
+            assertEquals(1, dueSoonEvents.size());
+            assertEquals(model.getTaskManagerSnapshot().getTaskList(), dueSoonEvents.get(0).tasks);
+            assertFalse(before.getTaskList().get(0).isDueSoon());
+            assertTrue(model.getTaskManagerSnapshot().getTaskList().get(0).isDueSoon());
+
+            model.setNotification("7 days");
+            assertEquals(1, dueSoonEvents.size());
+        } finally {
+            TaskNotifierManager.notificationSetting = TaskNotifierManager.DEFAULT_NOTIFICATION;
+        }
+    }
+
+    @Test
+    public void changedEvent_laterChanges_carriesStateAfterItsChange() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        for (UndoEngine undoEngine : UndoEngine.values()) {
+            ModelManager model = new ModelManager(new TaskManager(), new UserPrefs(), createConfig(undoEngine));
+            model.addTasks(Arrays.asList(new Task(td.event1), new Task(td.ddl1)));
+            model.saveState("add");
+            TaskManagerChangedEvent addedEvent = lastChangedEvent;
+            TaskManager expected = new TaskManager(model.getTaskManager());
+
+            model.deleteTask(td.event1);
+            model.updateTask(0, td.flt1);
+            model.loadPreviousState();
+            assertEquals(expected, new TaskManager(addedEvent.data));
+            assertSame(model.getTaskManagerSnapshot(), lastChangedEvent.data);
+            assertEquals(new TaskManager(model.getTaskManager()), new TaskManager(lastChangedEvent.data));
+        }
+    }
+
+    @Test
+    public void undoRedo_snapshotEngine_restoresEveryState() throws Exception {
+        assertUndoRedoRestoresEveryState(UndoEngine.SNAPSHOT);
+    }
+
+    @Test
+    public void undoRedo_journalEngine_restoresEveryState() throws Exception {
+        assertUndoRedoRestoresEveryState(UndoEngine.JOURNAL);
+    }
+
+    @Test
+    public void undo_journalEngineWithUnsavedChange_discardsChange() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        ModelManager model = new ModelManager(new TaskManager(), new UserPrefs(), createConfig(UndoEngine.JOURNAL));
+        model.addTask(new Task(td.event1));
+        model.saveState("add");
+        model.addTask(new Task(td.ddl1));
+
+        model.loadPreviousState();
+        assertEquals(new TaskManager(), new TaskManager(model.getTaskManager()));
+    }
+
+    @Test
+    public void undo_beyondHistoryLimit_oldestStatesForgotten() throws Exception {
+        assertUndoBeyondHistoryLimitFails(UndoEngine.SNAPSHOT);
+        assertUndoBeyondHistoryLimitFails(UndoEngine.JOURNAL);
+    }
+
+    private void assertUndoBeyondHistoryLimitFails(UndoEngine undoEngine) throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        Config config = createConfig(undoEngine);
+        config.setUndoHistoryLimit(2);
+        ModelManager model = new ModelManager(new TaskManager(), new UserPrefs(), config);
+        TestTask[] tasks = td.getTypicalTasks();
+        TaskManager expected = null;
+        for (int i = 0; i < tasks.length; i++) {
+            model.addTask(new Task(tasks[i]));
+            model.saveState("add");
+            if (i == tasks.length - 3) {
+                expected = new TaskManager(model.getTaskManager());
+            }
+        }
+
+        model.loadPreviousState();
+        model.loadPreviousState();
+        assertEquals(expected, new TaskManager(model.getTaskManager()));
+
+        try {
+            model.loadPreviousState();
+            fail("Undo beyond the history limit should fail");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals(expected, new TaskManager(model.getTaskManager()));
+        }
+    }
+
+    private void assertBatchIsOneChange(UndoEngine undoEngine) throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        ModelManager model = new ModelManager(new TaskManager(), new UserPrefs(), createConfig(undoEngine));
+        model.addTask(new Task(td.event1));
+        model.saveState("add");
+        TaskManager before = new TaskManager(model.getTaskManager());
+        changedEventCount = 0;
+
+        model.addTasks(Arrays.asList(new Task(td.ddl1), new Task(td.flt1), new Task(td.event2)));
+        model.deleteTasks(Arrays.asList(td.event1, td.flt1));
+        model.saveState("batch");
+        assertEquals(2, changedEventCount);
+        assertEquals(2, model.getFilteredTaskList().size());
+
+        model.loadPreviousState();
+        assertEquals(before, new TaskManager(model.getTaskManager()));
+    }
+
+    private Config createConfig(UndoEngine undoEngine) {
+        Config config = new Config();
+        config.setUndoEngine(undoEngine);
+        return config;
+    }
+
+    /**
+     * Makes one change of each kind on a model using {@code undoEngine}, then checks that undoing and redoing every
+     * change goes through the same states in reverse and forward order.
+     */
+    private void assertUndoRedoRestoresEveryState(UndoEngine undoEngine) throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        ModelManager model = new ModelManager(new TaskManager(), new UserPrefs(), createConfig(undoEngine));
+        List<TaskManager> states = new ArrayList<>();
+        states.add(new TaskManager(model.getTaskManager()));
+
+        model.addTask(new Task(td.event1));
+        model.addTask(new Task(td.ddl1));
+        model.saveState("add");
+        states.add(new TaskManager(model.getTaskManager()));
+
+        model.addTask(new Task(td.flt3));
+        model.saveState("add");
+        states.add(new TaskManager(model.getTaskManager()));
+
+        model.updateTask(0, td.flt1);
+        model.saveState("edit");
+        states.add(new TaskManager(model.getTaskManager()));
+
+        model.deleteTask(model.getFilteredTaskList().get(1));
+        model.saveState("delete");
+        states.add(new TaskManager(model.getTaskManager()));
+
+        model.resetData(new TaskManager());
+        model.saveState("clear");
+        states.add(new TaskManager(model.getTaskManager()));
+
+        model.addTask(new Task(td.event2));
+        model.saveState("add");
+        states.add(new TaskManager(model.getTaskManager()));
+
+        for (int i = states.size() - 2; i >= 0; i--) {
+            model.loadPreviousState();
+            assertEquals(states.get(i), new TaskManager(model.getTaskManager()));
+        }
+        for (int i = 1; i < states.size(); i++) {
+            model.loadNextState();
+            assertEquals(states.get(i), new TaskManager(model.getTaskManager()));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.taskmanager.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+
+public class SortedTaskViewTest {
+
+    private static final int OPERATION_COUNT = 2000;
+
+    private final ObservableList<ReadOnlyTask> source = FXCollections.observableArrayList();
+    private final SortedTaskView view = new SortedTaskView(source);
+    /** A copy of the view kept up to date only through the changes the view reports. */
+    private final List<ReadOnlyTask> mirror = new ArrayList<>();
+
+    @Test
+    public void randomOperations_matchSortedSourceAndReportedChanges() throws Exception {
+        view.addListener((ListChangeListener<ReadOnlyTask>) change -> applyChange(change, mirror));
+        Random random = new Random(0);
+        TaskSortOrder[] sortOrders = TaskSortOrder.values();
+        TaskSortOrder sortOrder = TaskSortOrder.NONE;
+
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            int operation = source.isEmpty() ? 0 : random.nextInt(10);
+            if (operation < 4) {
+                source.add(random.nextInt(source.size() + 1), createTask(random, i));
+            } else if (operation < 7) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation < 9) {
+                source.set(random.nextInt(source.size()), createTask(random, i));
+            } else {
+                sortOrder = sortOrders[random.nextInt(sortOrders.length)];
+                view.setComparator(sortOrder.getComparator());
+            }
+            assertEquals(getExpectedView(sortOrder), new ArrayList<>(view));
+            assertEquals(mirror, new ArrayList<>(view));
+        }
+    }
+
+    @Test
+    public void indices_sortedView_mapToSource() throws Exception {
+        Random random = new Random(1);
+        for (int i = 0; i < 50; i++) {
+            source.add(createTask(random, i));
+        }
+        view.setComparator(TaskSortOrder.NAME.getComparator());
+
+        for (int i = 0; i < view.size(); i++) {
+            assertEquals(view.get(i), source.get(view.getSourceIndex(i)));
+            assertEquals(i, view.getViewIndex(view.getSourceIndex(i)));
+            assertEquals(i, view.indexOf(view.get(i)));
+        }
+    }
+
+    private List<ReadOnlyTask> getExpectedView(TaskSortOrder sortOrder) {
+        List<ReadOnlyTask> expected = new ArrayList<>(source);
+        Comparator<ReadOnlyTask> comparator = sortOrder.getComparator();
+        if (comparator != null) {
+            expected.sort(comparator);
+        }
+        return expected;
+    }
+
+    private static void applyChange(Change<? extends ReadOnlyTask> change, List<ReadOnlyTask> list) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<ReadOnlyTask> permuted = new ArrayList<>(list);
+                for (int i = from; i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), list.get(i));
+                }
+                list.clear();
+                list.addAll(permuted);
+            } else if (!change.wasUpdated()) {
+                list.subList(from, from + change.getRemovedSize()).clear();
+                list.addAll(from, change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Returns a task with a name, start date and end date that are unique to {@code id}, so that no two tasks tie in
+     * any sort order.
+     */
+    private static Task createTask(Random random, int id) throws Exception {
+        long startTime = random.nextInt(1000000) * 10000L + id;
+        long endTime = random.nextInt(1000000) * 10000L + id;
+        TaskDate startDate = random.nextBoolean() ? new TaskDate(startTime, true) : null;
+        TaskDate endDate = random.nextBoolean() ? new TaskDate(endTime, true) : null;
+        return new Task(new Name("task " + random.nextInt(1000) + " " + id), startDate, endDate,
+                new UniqueTagList());
+    }
+}
@@ -2,11 +2,15 @@
 package seedu.taskmanager.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Rule;
@@ -16,8 +20,11 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
 import seedu.taskmanager.model.task.ReadOnlyTask;
 import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
 import seedu.taskmanager.testutil.TypicalTestTasks;
 
 public class TaskManagerTest {
@@ -71,6 +78,88 @@ public class TaskManagerTest {
         taskManager.resetData(newData);
     }
 
+    @Test
+    public void restoreSnapshot_afterChanges_restoresSnapshotState() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        taskManager.addTask(new Task(td.event1));
+        taskManager.addTask(new Task(td.ddl1));
+        TaskManagerSnapshot snapshot = taskManager.getSnapshot();
+        TaskManager expected = new TaskManager(taskManager);
+
+        taskManager.updateTask(0, td.flt1);
+        taskManager.removeTask(td.ddl1);
+        taskManager.addTask(new Task(td.event2));
+
+        taskManager.restoreSnapshot(snapshot);
+        assertEquals(expected, taskManager);
+        assertEquals(expected.getTaskList(), snapshot.getTaskList());
+    }
+
+    @Test
+    public void getCommittedSnapshot_laterChanges_snapshotUnchanged() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        taskManager.addTask(new Task(td.event1));
+        TaskManagerSnapshot committed = taskManager.getCommittedSnapshot();
+        TaskManager expected = new TaskManager(taskManager);
+
+        taskManager.updateTask(0, td.flt1);
+        taskManager.addTask(new Task(td.ddl1));
+        assertEquals(expected, new TaskManager(committed));
+        assertEquals(new TaskManager(taskManager), new TaskManager(taskManager.getCommittedSnapshot()));
+    }
+
+    @Test
+    public void getCommittedSnapshot_duringChange_previousStateUntilChangeEnds() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskManagerSnapshot before = taskManager.getCommittedSnapshot();
+
+        taskManager.beginChange();
+        taskManager.addTask(new Task(td.event1));
+        taskManager.addTask(new Task(td.ddl1));
+        assertSame(before, taskManager.getCommittedSnapshot());
+
+        taskManager.endChange();
+        assertEquals(2, taskManager.getCommittedSnapshot().getTaskCount());
+        assertEquals(new TaskManager(taskManager), new TaskManager(taskManager.getCommittedSnapshot()));
+    }
+
+    @Test
+    public void setDueSoonWindow_taskBecomesDueSoon_replacedAndEarlierSnapshotUnchanged() throws Exception {
+        final long hour = 3600000L;
+        Task task = new Task(new Name("report"), null, new TaskDate(System.currentTimeMillis() + 2 * hour, true),
+                new UniqueTagList());
+        taskManager.setDueSoonWindow(hour);
+        taskManager.addTask(task);
+        TaskManagerSnapshot before = taskManager.getCommittedSnapshot();
+
+        List<ReadOnlyTask> changed = taskManager.setDueSoonWindow(3 * hour);
+
+        assertEquals(Collections.singletonList(taskManager.getTaskList().get(0)), changed);
+        assertFalse(task.isDueSoon());
+        assertFalse(before.getTaskList().get(0).isDueSoon());
+        assertTrue(taskManager.getTaskList().get(0).isDueSoon());
+        assertTrue(taskManager.getCommittedSnapshot().getTaskList().get(0).isDueSoon());
+    }
+
+    @Test
+    public void addTask_sharedTag_tagInternedAndIndexed() throws Exception {
+        taskManager.addTask(new Task(new Name("report"), new UniqueTagList(new Tag("work"))));
+        taskManager.addTask(new Task(new Name("slides"), new UniqueTagList(new Tag("work"), new Tag("urgent"))));
+        taskManager.addTask(new Task(new Name("dinner"), new UniqueTagList(new Tag("home"))));
+
+        List<ReadOnlyTask> tasks = taskManager.getTaskList();
+        assertSame(tasks.get(0).getTags().asObservableList().get(0), tasks.get(1).getTags().asObservableList().get(0));
+        assertEquals(3, taskManager.getTagList().size());
+        assertEquals(new HashSet<>(tasks.subList(0, 2)), taskManager.getTasksWithTag(new Tag("work")));
+
+        taskManager.removeTask(tasks.get(0));
+        assertEquals(Collections.singleton(taskManager.getTaskList().get(0)),
+                taskManager.getTasksWithTag(new Tag("work")));
+        taskManager.removeTask(taskManager.getTaskList().get(1));
+        assertEquals(Collections.emptySet(), taskManager.getTasksWithTag(new Tag("home")));
+        assertEquals(Collections.emptySet(), taskManager.getTasksWithTag(new Tag("unknown")));
+    }
+
     /**
      * A stub ReadOnlyTaskManager whose tasks and tags lists can violate interface constraints.
      */
@@ -0,0 +1,65 @@
+package seedu.taskmanager.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.taskmanager.commons.util.CommonStringUtil.DEADLINE_STRING;
+import static seedu.taskmanager.commons.util.CommonStringUtil.DONE_STRING;
+import static seedu.taskmanager.commons.util.CommonStringUtil.EVENT_STRING;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.taskmanager.logic.parser.DateTimeUtil;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.testutil.TaskBuilder;
+
+public class TaskQueryTest {
+
+    private final TaskManager taskManager = new TaskManager();
+
+    @Test
+    public void execute_categoryAndDay_onlyTasksMatchingBoth() throws Exception {
+        addTask(new TaskBuilder().withName("report").withEndDate(DateTimeUtil.parseEndDateTime("1/1/2030")).build());
+        addTask(new TaskBuilder().withName("trip").withStartDate(DateTimeUtil.parseStartDateTime("1/1/2030"))
+                .withEndDate(DateTimeUtil.parseEndDateTime("3/1/2030")).build());
+        addTask(new TaskBuilder().withName("essay").withEndDate(DateTimeUtil.parseEndDateTime("2/1/2030")).build());
+        long day = DateTimeUtil.parseDateTime("1/1/2030").getEpochDay();
+
+        assertMatches(TaskQuery.inCategory(DEADLINE_STRING).and(TaskQuery.onDay(day)), "report");
+        assertMatches(TaskQuery.onDay(day).and(TaskQuery.inCategory(EVENT_STRING)), "trip");
+        assertMatches(TaskQuery.onDay(day).and(TaskQuery.inCategory(DONE_STRING)));
+    }
+
+    @Test
+    public void execute_wordGroups_allWordsOfAnyGroup() throws Exception {
+        addTask(new TaskBuilder().withName("project meeting").build());
+        addTask(new TaskBuilder().withName("project report").build());
+        addTask(new TaskBuilder().withName("Dinner").build());
+        addTask(new TaskBuilder().withName("meeting notes").build());
+
+        List<Set<String>> wordGroups = Arrays.asList(new HashSet<>(Arrays.asList("Project", "MEETING")),
+                new HashSet<>(Arrays.asList("dinner")));
+        assertMatches(TaskQuery.withWords(wordGroups), "project meeting", "Dinner");
+    }
+
+    @Test
+    public void execute_none_noTasks() throws Exception {
+        addTask(new TaskBuilder().withName("report").build());
+        assertMatches(TaskQuery.NONE);
+    }
+
+    private void addTask(ReadOnlyTask task) throws Exception {
+        taskManager.addTask(new Task(task));
+    }
+
+    private void assertMatches(TaskQuery query, String... expectedNames) {
+        Set<String> actualNames = query.execute(taskManager).stream().map(task -> task.getName().fullName)
+                .collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList(expectedNames)), actualNames);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.taskmanager.model.task;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.taskmanager.model.tag.UniqueTagList;
+
+public class PersistentTaskListTest {
+
+    private static final int OPERATION_COUNT = 2000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void get_emptyList_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentTaskList.EMPTY.get(0);
+    }
+
+    @Test
+    public void of_tasks_sameOrder() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(createTask(i));
+        }
+        PersistentTaskList list = PersistentTaskList.of(tasks);
+        assertEquals(tasks, list.toList());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void randomOperations_matchArrayListAndKeepOldVersions() throws Exception {
+        Random random = new Random(0);
+        PersistentTaskList list = PersistentTaskList.EMPTY;
+        List<Task> expected = new ArrayList<>();
+        List<PersistentTaskList> versions = new ArrayList<>();
+        List<List<Task>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                Task task = createTask(i);
+                list = list.add(task);
+                expected.add(task);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                Task task = createTask(i);
+                list = list.set(index, task);
+                expected.set(index, task);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.remove(index);
+                expected.remove(index);
+            }
+            versions.add(list);
+            expectedVersions.add(new ArrayList<>(expected));
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).toList());
+            assertEquals(expectedVersions.get(i).size(), versions.get(i).size());
+        }
+    }
+
+    private Task createTask(int id) throws Exception {
+        return new Task(new Name("task " + id), new UniqueTagList());
+    }
+}
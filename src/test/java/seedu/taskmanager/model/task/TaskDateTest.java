@@ -0,0 +1,61 @@
+package seedu.taskmanager.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.junit.Test;
+
+public class TaskDateTest {
+
+    private static final long JAN_1_2030 = LocalDate.of(2030, 1, 1).atTime(9, 30)
+            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+    @Test
+    public void equals_sameTime_equalWithSameHashCode() {
+        TaskDate fromMillis = new TaskDate(JAN_1_2030, true);
+        TaskDate fromDate = new TaskDate(new Date(JAN_1_2030), true);
+
+        assertEquals(fromMillis, fromDate);
+        assertEquals(fromMillis.hashCode(), fromDate.hashCode());
+        assertNotEquals(fromMillis, new TaskDate(JAN_1_2030 + 1, true));
+    }
+
+    @Test
+    public void compare_differentTimes_orderedByTime() {
+        TaskDate earlier = new TaskDate(JAN_1_2030, true);
+        TaskDate later = new TaskDate(JAN_1_2030 + 1, true);
+
+        assertTrue(earlier.isBefore(later));
+        assertTrue(later.isAfter(earlier));
+        assertFalse(earlier.isBefore(earlier));
+        assertTrue(earlier.compareTo(later) < 0);
+    }
+
+    @Test
+    public void getEpochDay_returnsLocalDay() {
+        assertEquals(LocalDate.of(2030, 1, 1).toEpochDay(), new TaskDate(JAN_1_2030, true).getEpochDay());
+    }
+
+    @Test
+    public void getTaskDate_modifiedCopy_dateUnchanged() {
+        TaskDate taskDate = new TaskDate(JAN_1_2030, true);
+        taskDate.getTaskDate().setTime(0);
+
+        assertEquals(JAN_1_2030, taskDate.getTime());
+    }
+
+    @Test
+    public void toString_calledTwice_returnsSameString() {
+        TaskDate taskDate = new TaskDate(JAN_1_2030, false);
+
+        assertEquals("01 January 2030", taskDate.toString());
+        assertSame(taskDate.toString(), taskDate.toString());
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.taskmanager.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+
+public class TaskTest {
+
+    private static final long JAN_1_2030 = 1893456000000L;
+
+    @Test
+    public void getTagSet_readTwice_sameUnmodifiableSet() throws Exception {
+        Task task = new Task(new Name("report"), new UniqueTagList(new Tag("work"), new Tag("urgent")));
+
+        assertSame(task.getTagSet(), task.getTagSet());
+        assertEquals(Arrays.asList(new Tag("work"), new Tag("urgent")), Arrays.asList(task.getTagSet().toArray()));
+        try {
+            task.getTagSet().add(new Tag("home"));
+            throw new AssertionError("The tag set of a task should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(2, task.getTags().asObservableList().size());
+        }
+    }
+
+    @Test
+    public void builder_changedDetails_newTaskSharingTheRest() throws Exception {
+        Task task = new Task(new Name("report"), null, new TaskDate(JAN_1_2030, true),
+                new UniqueTagList(new Tag("work")));
+
+        Task done = new Task.Builder(task).setDoneStatus(true).build();
+        assertTrue(done.isDone());
+        assertFalse(task.isDone());
+        assertSame(task.getTagSet(), done.getTagSet());
+        assertSame(task.getTagSet(), new Task(done).getTagSet());
+
+        Task floating = new Task.Builder(task).setEndDate(null).setTags(new UniqueTagList(new Tag("home"))).build();
+        assertTrue(floating.isFloating());
+        assertNull(floating.getEndDate());
+        assertTrue(task.isDeadline());
+        assertEquals(new UniqueTagList(new Tag("work")), task.getTags());
+        assertEquals(new UniqueTagList(new Tag("home")), floating.getTags());
+    }
+
+    @Test
+    public void hashCode_equalTaskWithOtherTags_sameHashCode() throws Exception {
+        Task task = new Task(new Name("report"), null, new TaskDate(JAN_1_2030, true),
+                new UniqueTagList(new Tag("work")));
+        Task untagged = new Task.Builder(task).setTags(new UniqueTagList()).build();
+
+        assertEquals(task, untagged);
+        assertEquals(task.hashCode(), untagged.hashCode());
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.taskmanager.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.taskmanager.commons.core.LogsCenter;
+import seedu.taskmanager.model.tag.UniqueTagList;
+
+public class UniqueTaskListTest {
+
+    private static final Logger logger = LogsCenter.getLogger(UniqueTaskListTest.class);
+    private static final int LARGE_LIST_SIZE = 100000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() throws Exception {
+        uniqueTaskList.add(createTask("meeting", 0));
+        thrown.expect(UniqueTaskList.DuplicateTaskException.class);
+        uniqueTaskList.add(createTask("meeting", 0));
+    }
+
+    @Test
+    public void add_sameNameDifferentDate_success() throws Exception {
+        uniqueTaskList.add(createTask("meeting", 0));
+        uniqueTaskList.add(createTask("meeting", 1));
+        assertEquals(2, uniqueTaskList.asObservableList().size());
+    }
+
+    @Test
+    public void remove_existingTask_noLongerContained() throws Exception {
+        Task task = createTask("meeting", 0);
+        uniqueTaskList.add(task);
+        uniqueTaskList.remove(createTask("meeting", 0));
+        assertFalse(uniqueTaskList.contains(task));
+
+        thrown.expect(UniqueTaskList.TaskNotFoundException.class);
+        uniqueTaskList.remove(task);
+    }
+
+    @Test
+    public void updateTask_renamedTask_indexFollowsNewName() throws Exception {
+        uniqueTaskList.add(createTask("meeting", 0));
+        uniqueTaskList.updateTask(0, createTask("dinner", 0));
+        assertFalse(uniqueTaskList.contains(createTask("meeting", 0)));
+        assertTrue(uniqueTaskList.contains(createTask("dinner", 0)));
+
+        // the old name is free to be reused
+        uniqueTaskList.add(createTask("meeting", 0));
+    }
+
+    @Test
+    public void indexOf_tasksInsertedAndRemoved_positionsFollow() throws Exception {
+        uniqueTaskList.add(createTask("meeting", 0));
+        uniqueTaskList.add(createTask("dinner", 0));
+        uniqueTaskList.add(1, createTask("lunch", 0));
+        assertEquals(1, uniqueTaskList.indexOf(createTask("lunch", 0)));
+        assertEquals(2, uniqueTaskList.indexOf(createTask("dinner", 0)));
+
+        uniqueTaskList.remove(0);
+        assertEquals(-1, uniqueTaskList.indexOf(createTask("meeting", 0)));
+        assertEquals(0, uniqueTaskList.indexOf(createTask("lunch", 0)));
+        assertEquals(1, uniqueTaskList.indexOf(createTask("dinner", 0)));
+    }
+
+    /**
+     * Logs the time taken to load 100,000 tasks and look each of them up.
+     */
+    @Test
+    public void setTasks_largeList_allTasksContained() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            tasks.add(createTask("task " + i, i));
+        }
+
+        long startTime = System.currentTimeMillis();
+        uniqueTaskList.setTasks(tasks);
+        for (Task task : tasks) {
+            assertTrue(uniqueTaskList.contains(task));
+        }
+        long elapsedTime = System.currentTimeMillis() - startTime;
+
+        logger.info("Loading " + LARGE_LIST_SIZE + " tasks took " + elapsedTime + "ms");
+        assertEquals(LARGE_LIST_SIZE, uniqueTaskList.asObservableList().size());
+    }
+
+    private Task createTask(String name, long dueDateMillis) throws Exception {
+        return new Task(new Name(name), null, new TaskDate(new Date(dueDateMillis), true), new UniqueTagList());
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.taskmanager.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.taskmanager.testutil.TaskManagerAssert.assertSameData;
+import static seedu.taskmanager.testutil.TaskManagerAssert.getDetails;
+import static seedu.taskmanager.testutil.TaskManagerGenerator.HOUR;
+import static seedu.taskmanager.testutil.TaskManagerGenerator.JAN_1_2030;
+import static seedu.taskmanager.testutil.TaskManagerGenerator.createTaskManager;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.taskmanager.commons.exceptions.DataConversionException;
+import seedu.taskmanager.commons.util.FileUtil;
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+import seedu.taskmanager.testutil.TypicalTestTasks;
+
+public class BinaryTaskManagerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private TaskManager taskManager;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().getPath() + "/data/taskmanager.bin";
+        taskManager = new TypicalTestTasks().getTypicalTaskManager();
+        taskManager.updateTask(0, new Task.Builder(taskManager.getTaskList().get(0)).setDoneStatus(true).build());
+        taskManager.addTask(new Task(new Name("Dated task"), new TaskDate(JAN_1_2030, false),
+                new TaskDate(JAN_1_2030 + HOUR, true), new UniqueTagList(new Tag("work"), new Tag("urgent"))));
+        taskManager.addTag(new Tag("unused"));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskManagerStorage(filePath).readTaskManager().isPresent());
+    }
+
+    @Test
+    public void readAndSave_allDetails_sameData() throws Exception {
+        BinaryTaskManagerStorage storage = new BinaryTaskManagerStorage(filePath);
+        storage.saveTaskManager(taskManager);
+        ReadOnlyTaskManager readBack = storage.readTaskManager().get();
+
+        assertEquals(taskManager.getTaskList(), readBack.getTaskList());
+        assertEquals(taskManager.getTaskList().hashCode(), readBack.getTaskList().hashCode());
+        assertEquals(getDetails(taskManager), getDetails(readBack));
+        assertEquals(taskManager.getTagList(), readBack.getTagList());
+        assertEquals(taskManager, new TaskManager(readBack));
+    }
+
+    @Test
+    public void save_fileStillOpen_openedDataUnchanged() throws Exception {
+        BinaryTaskManagerStorage storage = new BinaryTaskManagerStorage(filePath);
+        storage.saveTaskManager(taskManager);
+        ReadOnlyTaskManager opened = storage.readTaskManager().get();
+        List<String> details = getDetails(taskManager);
+
+        storage.saveTaskManager(new TaskManager());
+
+        assertEquals(details, getDetails(opened));
+        assertTrue(storage.readTaskManager().get().getTaskList().isEmpty());
+    }
+
+    @Test
+    public void read_damagedFile_exceptionThrown() throws Exception {
+        new BinaryTaskManagerStorage(filePath).saveTaskManager(taskManager);
+        Path path = new File(filePath).toPath();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskManagerStorage(filePath).readTaskManager();
+    }
+
+    @Test
+    public void read_xmlFile_exceptionThrown() throws Exception {
+        String xmlFilePath = testFolder.getRoot().getPath() + "/taskmanager.xml";
+        new XmlTaskManagerStorage(xmlFilePath).saveTaskManager(taskManager);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskManagerStorage(filePath).readTaskManager(xmlFilePath);
+    }
+
+    @Test
+    public void save_thousandTasks_smallerThanXml() throws Exception {
+        TaskManager largeTaskManager = createTaskManager(1000);
+        File xmlFile = new File(testFolder.getRoot().getPath() + "/large.xml");
+        FileUtil.createIfMissing(xmlFile);
+        XmlFileStorage.saveDataToFile(xmlFile, new XmlSerializableTaskManager(largeTaskManager));
+        BinaryTaskManagerStorage storage = new BinaryTaskManagerStorage(filePath);
+        storage.saveTaskManager(largeTaskManager);
+
+        long binaryLength = new File(filePath).length();
+        assertTrue("binary file of " + binaryLength + " bytes, xml file of " + xmlFile.length() + " bytes",
+                binaryLength * 4 < xmlFile.length());
+        assertSameData(largeTaskManager, storage.readTaskManager().get());
+    }
+}
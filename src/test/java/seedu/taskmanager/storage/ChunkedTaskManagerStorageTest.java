@@ -0,0 +1,163 @@
+package seedu.taskmanager.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.taskmanager.testutil.TaskManagerAssert.assertSameData;
+import static seedu.taskmanager.testutil.TaskManagerGenerator.HOUR;
+import static seedu.taskmanager.testutil.TaskManagerGenerator.JAN_1_2030;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.taskmanager.commons.exceptions.DataConversionException;
+import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+import seedu.taskmanager.testutil.TypicalTestTasks;
+
+public class ChunkedTaskManagerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private Path directory;
+    private TaskManager taskManager;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + "/data/taskmanager.chunks";
+        directory = Paths.get(filePath);
+        taskManager = new TypicalTestTasks().getTypicalTaskManager();
+    }
+
+    @Test
+    public void read_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ChunkedTaskManagerStorage(filePath).readTaskManager().isPresent());
+    }
+
+    @Test
+    public void readAndSave_allDetails_sameData() throws Exception {
+        taskManager.updateTask(0, new Task.Builder(taskManager.getTaskList().get(0)).setDoneStatus(true).build());
+        taskManager.addTask(new Task(new Name("Dated task"), new TaskDate(JAN_1_2030, false),
+                new TaskDate(JAN_1_2030 + HOUR, true), new UniqueTagList(new Tag("work"))));
+        taskManager.addTag(new Tag("unused"));
+        ChunkedTaskManagerStorage storage = new ChunkedTaskManagerStorage(filePath, 2);
+        storage.saveTaskManager(taskManager);
+
+        assertSameData(taskManager, storage.readTaskManager().get());
+    }
+
+    @Test
+    public void save_oneTaskChanged_onlyItsChunkRewritten() throws Exception {
+        ChunkedTaskManagerStorage storage = new ChunkedTaskManagerStorage(filePath, 2);
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        Set<Path> chunksBefore = listChunkFiles();
+
+        taskManager.updateTask(3, new Task.Builder(taskManager.getTaskList().get(3)).setDoneStatus(true).build());
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        Set<Path> chunksAfter = listChunkFiles();
+
+        Set<Path> kept = new HashSet<>(chunksBefore);
+        kept.retainAll(chunksAfter);
+        assertEquals(chunksBefore.size() - 1, kept.size());
+        assertEquals(chunksBefore.size(), chunksAfter.size());
+        assertSameData(taskManager, new ChunkedTaskManagerStorage(filePath).readTaskManager().get());
+    }
+
+    @Test
+    public void save_tasksAddedAndRemoved_sameDataAfterRead() throws Exception {
+        ChunkedTaskManagerStorage storage = new ChunkedTaskManagerStorage(filePath, 3);
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+
+        taskManager.removeTask(taskManager.getTaskList().get(0));
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        assertSameData(taskManager, new ChunkedTaskManagerStorage(filePath).readTaskManager().get());
+
+        for (int i = 0; i < 4; i++) {
+            taskManager.addTask(new Task(new Name("Added task " + i), new UniqueTagList(new Tag("brandnew"))));
+            storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        }
+        assertSameData(taskManager, new ChunkedTaskManagerStorage(filePath).readTaskManager().get());
+
+        taskManager.beginChange();
+        taskManager.removeTask(taskManager.getTaskList().get(2));
+        taskManager.removeTask(taskManager.getTaskList().get(2));
+        taskManager.removeTask(taskManager.getTaskList().get(2));
+        taskManager.removeTask(taskManager.getTaskList().get(2));
+        taskManager.endChange();
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        assertSameData(taskManager, new ChunkedTaskManagerStorage(filePath).readTaskManager().get());
+
+        taskManager.resetData(new TaskManager());
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        assertTrue(new ChunkedTaskManagerStorage(filePath).readTaskManager().get().getTaskList().isEmpty());
+        assertTrue(listChunkFiles().isEmpty());
+    }
+
+    @Test
+    public void save_afterRead_onlyChangedChunkWrittenAndStrayChunksDeleted() throws Exception {
+        new ChunkedTaskManagerStorage(filePath, 2).saveTaskManager(taskManager);
+        Path strayChunk = directory.resolve("chunk-999");
+        Files.write(strayChunk, new byte[] {1, 2, 3});
+        Set<Path> chunksBefore = listChunkFiles();
+
+        ChunkedTaskManagerStorage storage = new ChunkedTaskManagerStorage(filePath, 2);
+        TaskManager readBack = new TaskManager(storage.readTaskManager().get());
+        readBack.removeTask(readBack.getTaskList().get(0));
+        storage.saveTaskManager(readBack.getCommittedSnapshot());
+
+        Set<Path> kept = new HashSet<>(chunksBefore);
+        kept.retainAll(listChunkFiles());
+        assertEquals(chunksBefore.size() - 2, kept.size());
+        assertFalse(Files.exists(strayChunk));
+        assertSameData(readBack, new ChunkedTaskManagerStorage(filePath).readTaskManager().get());
+    }
+
+    @Test
+    public void read_missingChunk_exceptionThrown() throws Exception {
+        new ChunkedTaskManagerStorage(filePath, 2).saveTaskManager(taskManager);
+        Files.delete(listChunkFiles().iterator().next());
+
+        thrown.expect(DataConversionException.class);
+        new ChunkedTaskManagerStorage(filePath).readTaskManager();
+    }
+
+    @Test
+    public void read_damagedManifest_exceptionThrown() throws Exception {
+        new ChunkedTaskManagerStorage(filePath).saveTaskManager(taskManager);
+        Path manifestPath = directory.resolve("manifest");
+        byte[] manifest = Files.readAllBytes(manifestPath);
+        manifest[manifest.length / 2] ^= 1;
+        Files.write(manifestPath, manifest);
+
+        thrown.expect(DataConversionException.class);
+        new ChunkedTaskManagerStorage(filePath).readTaskManager();
+    }
+
+    private Set<Path> listChunkFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("chunk-"))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
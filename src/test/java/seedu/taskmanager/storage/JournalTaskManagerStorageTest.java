@@ -0,0 +1,203 @@
+package seedu.taskmanager.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.taskmanager.testutil.TaskManagerAssert.assertSameData;
+import static seedu.taskmanager.testutil.TaskManagerGenerator.createTaskManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.taskmanager.commons.core.LogsCenter;
+import seedu.taskmanager.commons.exceptions.DataConversionException;
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.testutil.TypicalTestTasks;
+
+public class JournalTaskManagerStorageTest {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTaskManagerStorageTest.class);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private Path journalPath;
+    private Path snapshotPath;
+    private TaskManager taskManager;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + "/data/taskmanager.journal";
+        journalPath = Paths.get(filePath);
+        snapshotPath = JournalTaskManagerStorage.getSnapshotPath(journalPath);
+        taskManager = new TypicalTestTasks().getTypicalTaskManager();
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalTaskManagerStorage(filePath).readTaskManager().isPresent());
+    }
+
+    @Test
+    public void save_changesAfterFirstSave_onlyAppendedToJournal() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+        long journalLength = Files.size(journalPath);
+
+        taskManager.updateTask(1, new Task.Builder(taskManager.getTaskList().get(1)).setDoneStatus(true).build());
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        assertTrue(Files.size(journalPath) - journalLength < 32);
+
+        taskManager.updateTask(0, new Task.Builder(taskManager.getTaskList().get(0))
+                .setName(new Name("Renamed task")).build());
+        taskManager.removeTask(taskManager.getTaskList().get(4));
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        taskManager.addTask(new Task(new Name("New task"), new UniqueTagList(new Tag("brandnew"))));
+        taskManager.addTag(new Tag("unused"));
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+
+        assertArrayEquals(snapshot, Files.readAllBytes(snapshotPath));
+        assertSameData(taskManager, new JournalTaskManagerStorage(filePath).readTaskManager().get());
+    }
+
+    @Test
+    public void save_afterRead_onlyChangesAppended() throws Exception {
+        new JournalTaskManagerStorage(filePath).saveTaskManager(taskManager);
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        TaskManager readBack = new TaskManager(storage.readTaskManager().get());
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+
+        readBack.removeTask(readBack.getTaskList().get(0));
+        storage.saveTaskManager(readBack.getCommittedSnapshot());
+
+        assertArrayEquals(snapshot, Files.readAllBytes(snapshotPath));
+        assertSameData(readBack, new JournalTaskManagerStorage(filePath).readTaskManager().get());
+    }
+
+    @Test
+    public void save_cleared_emptyAfterRead() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        taskManager.resetData(new TaskManager());
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+
+        assertTrue(new JournalTaskManagerStorage(filePath).readTaskManager().get().getTaskList().isEmpty());
+    }
+
+    @Test
+    public void read_incompleteCommitAtEnd_ignoredAndOverwritten() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        taskManager.removeTask(taskManager.getTaskList().get(0));
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        Files.write(journalPath, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        JournalTaskManagerStorage reopened = new JournalTaskManagerStorage(filePath);
+        TaskManager readBack = new TaskManager(reopened.readTaskManager().get());
+        assertSameData(taskManager, readBack);
+
+        readBack.removeTask(readBack.getTaskList().get(0));
+        reopened.saveTaskManager(readBack.getCommittedSnapshot());
+        assertSameData(readBack, new JournalTaskManagerStorage(filePath).readTaskManager().get());
+    }
+
+    @Test
+    public void read_journalAlreadyInSnapshot_notReplayed() throws Exception {
+        new JournalTaskManagerStorage(filePath).saveTaskManager(taskManager);
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath);
+        TaskManager readBack = new TaskManager(storage.readTaskManager().get());
+        readBack.removeTask(readBack.getTaskList().get(0));
+        storage.saveTaskManager(readBack.getCommittedSnapshot());
+        byte[] staleJournal = Files.readAllBytes(journalPath);
+
+        // a new storage knows nothing of the saved data, so it writes a new snapshot, as if a crash had then left
+        // the journal in place of the new empty one
+        new JournalTaskManagerStorage(filePath).saveTaskManager(readBack);
+        Files.write(journalPath, staleJournal);
+
+        assertSameData(readBack, new JournalTaskManagerStorage(filePath).readTaskManager().get());
+    }
+
+    @Test
+    public void save_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        JournalTaskManagerStorage storage = new JournalTaskManagerStorage(filePath, 200);
+        storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        long snapshotLength = Files.size(snapshotPath);
+        for (int i = 0; i < 10; i++) {
+            taskManager.addTask(new Task(new Name("Added task " + i), new UniqueTagList()));
+            storage.saveTaskManager(taskManager.getCommittedSnapshot());
+        }
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(JournalTaskManagerStorage.getOldJournalPath(journalPath)));
+        // at most the threshold and the commit that passed it, rather than all ten commits
+        assertTrue(Files.size(journalPath) <= 2 * 200);
+        assertTrue(Files.size(snapshotPath) > snapshotLength);
+        assertSameData(taskManager, new JournalTaskManagerStorage(filePath).readTaskManager().get());
+    }
+
+    @Test
+    public void read_damagedSnapshot_exceptionThrown() throws Exception {
+        new JournalTaskManagerStorage(filePath).saveTaskManager(taskManager);
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+        snapshot[snapshot.length / 2] ^= 1;
+        Files.write(snapshotPath, snapshot);
+
+        thrown.expect(DataConversionException.class);
+        new JournalTaskManagerStorage(filePath).readTaskManager();
+    }
+
+    /**
+     * Logs the time taken to save one change to 10,000 tasks through the journal, and to rewrite them all as xml.
+     */
+    @Test
+    public void save_oneChangeToTenThousandTasks_sameDataAfterRead() throws Exception {
+        final int rounds = 5;
+        TaskManager largeTaskManager = createTaskManager(10000);
+        JournalTaskManagerStorage journalStorage = new JournalTaskManagerStorage(filePath);
+        XmlTaskManagerStorage xmlStorage = new XmlTaskManagerStorage(testFolder.getRoot().getPath() + "/large.xml");
+        journalStorage.saveTaskManager(largeTaskManager.getCommittedSnapshot());
+        xmlStorage.saveTaskManager(largeTaskManager.getCommittedSnapshot());
+
+        long journalNanos = 0;
+        long xmlNanos = 0;
+        for (int i = 0; i < rounds; i++) {
+            int index = i * 1000;
+            ReadOnlyTask task = largeTaskManager.getTaskList().get(index);
+            largeTaskManager.updateTask(index, new Task.Builder(task).setDoneStatus(!task.isDone()).build());
+            ReadOnlyTaskManager data = largeTaskManager.getCommittedSnapshot();
+
+            long start = System.nanoTime();
+            journalStorage.saveTaskManager(data);
+            journalNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            xmlStorage.saveTaskManager(data);
+            xmlNanos += System.nanoTime() - start;
+        }
+
+        logger.info("per save: " + journalNanos / rounds / 1000 + " us to the journal, " + xmlNanos / rounds / 1000
+                + " us as xml");
+        assertSameData(largeTaskManager, new JournalTaskManagerStorage(filePath).readTaskManager().get());
+    }
+}
@@ -18,6 +18,7 @@ import seedu.taskmanager.model.ReadOnlyTaskManager;
 import seedu.taskmanager.model.TaskManager;
 import seedu.taskmanager.model.UserPrefs;
 import seedu.taskmanager.testutil.EventsCollector;
+import seedu.taskmanager.testutil.TypicalTestTasks;
 
 public class StorageManagerTest {
 
@@ -54,6 +55,26 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getTaskManagerFilePath());
     }
 
+    @Test
+    public void createTaskManagerStorage_byExtension_matchingStorage() {
+        assertTrue(StorageManager.createTaskManagerStorage("data/taskmanager.journal")
+                instanceof JournalTaskManagerStorage);
+        assertTrue(StorageManager.createTaskManagerStorage("data/taskmanager.bin") instanceof BinaryTaskManagerStorage);
+        assertTrue(StorageManager.createTaskManagerStorage("data/taskmanager.chunks")
+                instanceof ChunkedTaskManagerStorage);
+        assertTrue(StorageManager.createTaskManagerStorage("data/taskmanager.xml") instanceof XmlTaskManagerStorage);
+    }
+
+    @Test
+    public void setTaskManagerFilePath_otherExtension_savedInNewFormat() throws Exception {
+        String journalFilePath = getTempFilePath("ab.journal");
+        storageManager.setTaskManagerFilePath(journalFilePath);
+        TaskManager original = new TypicalTestTasks().getTypicalTaskManager();
+        storageManager.saveTaskManager(original);
+
+        assertEquals(original, new TaskManager(new JournalTaskManagerStorage(journalFilePath).readTaskManager().get()));
+    }
+
     @Test
     public void handleTaskManagerChangedEvent_exceptionThrown_eventRaised() throws IOException {
         // Create a StorageManager while injecting a stub that throws an
@@ -61,7 +82,8 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlTaskManagerStorageExceptionThrowingStub("dummy"),
                 new JsonUserPrefsStorage("dummy"));
         EventsCollector eventCollector = new EventsCollector();
-        storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(new TaskManager()));
+        storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(new TaskManager().getSnapshot()));
+        storage.flushPendingSaves();
         assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
     }
 
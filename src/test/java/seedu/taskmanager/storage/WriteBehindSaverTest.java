@@ -0,0 +1,89 @@
+package seedu.taskmanager.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+import seedu.taskmanager.model.TaskManager;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60000;
+
+    private final List<ReadOnlyTaskManager> saved = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch firstSave = new CountDownLatch(1);
+
+    private void save(ReadOnlyTaskManager data) {
+        saved.add(data);
+        firstSave.countDown();
+    }
+
+    @Test
+    public void submit_burstOfChanges_latestSavedOnce() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(this::save, failures::add, 500, LONG_DELAY_MILLIS);
+        List<ReadOnlyTaskManager> burst = Arrays.asList(new TaskManager(), new TaskManager(), new TaskManager());
+        burst.forEach(saver::submit);
+
+        assertTrue(firstSave.await(10, TimeUnit.SECONDS));
+        saver.flush();
+        assertEquals(1, saved.size());
+        assertSame(burst.get(2), saved.get(0));
+        assertEquals(2, saver.getCoalescedCount());
+        assertTrue(saver.getLastSaveLatencyMillis() >= 500);
+    }
+
+    @Test
+    public void submit_changesNeverStop_savedByMaxDelay() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(this::save, failures::add, LONG_DELAY_MILLIS, 200);
+        long start = System.nanoTime();
+        while (firstSave.getCount() > 0 && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10)) {
+            saver.submit(new TaskManager());
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, firstSave.getCount());
+        assertTrue(saver.getMaxSaveLatencyMillis() < LONG_DELAY_MILLIS);
+    }
+
+    @Test
+    public void flush_pendingChange_savedBeforeReturning() {
+        WriteBehindSaver saver = new WriteBehindSaver(this::save, failures::add, LONG_DELAY_MILLIS,
+                LONG_DELAY_MILLIS);
+        saver.flush();
+        assertEquals(0, saver.getSaveCount());
+
+        ReadOnlyTaskManager data = new TaskManager();
+        saver.submit(data);
+        saver.flush();
+        assertEquals(Collections.singletonList(data), saved);
+        assertEquals(1, saver.getSaveCount());
+    }
+
+    @Test
+    public void flush_failingSave_failureHandled() {
+        IOException exception = new IOException("dummy exception");
+        WriteBehindSaver saver = new WriteBehindSaver(data -> {
+            throw exception;
+        }, failures::add, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+
+        saver.submit(new TaskManager());
+        saver.flush();
+        assertEquals(Collections.singletonList(exception), failures);
+
+        saver.submit(new TaskManager());
+        saver.flush();
+        assertEquals(2, failures.size());
+    }
+}
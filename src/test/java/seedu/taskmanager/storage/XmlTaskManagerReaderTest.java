@@ -0,0 +1,159 @@
+package seedu.taskmanager.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.taskmanager.commons.exceptions.DataConversionException;
+import seedu.taskmanager.commons.util.FileUtil;
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.ReadOnlyTask;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+import seedu.taskmanager.testutil.TypicalTestTasks;
+
+public class XmlTaskManagerReaderTest {
+    private static final File VALID_FILE = new File(FileUtil.getPath("src/test/data/XmlUtilTest/validTaskManager.xml"));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_validFile_sameAsUnmarshalled() throws Exception {
+        TaskManager expected = new TaskManager(XmlFileStorage.loadDataFromSaveFile(VALID_FILE));
+        TaskManager actual = XmlTaskManagerReader.read(VALID_FILE);
+        assertEquals(expected, actual);
+        assertEquals(expected.getTaskList(), actual.getTaskList());
+    }
+
+    @Test
+    public void read_savedTaskManager_sameTasksAndTags() throws Exception {
+        TypicalTestTasks td = new TypicalTestTasks();
+        TaskManager original = td.getTypicalTaskManager();
+        original.updateTask(0, new Task.Builder(original.getTaskList().get(0)).setDoneStatus(true).build());
+        original.addTag(new Tag("unused"));
+        File file = testFolder.newFile("TempTaskManager.xml");
+        new XmlTaskManagerStorage(file.getPath()).saveTaskManager(original);
+
+        TaskManager readBack = XmlTaskManagerReader.read(file);
+        assertEquals(original, readBack);
+        assertEquals(getDoneStatuses(original), getDoneStatuses(readBack));
+        assertEquals(original.getTagList(), readBack.getTagList());
+        assertEquals(new TaskManager(XmlFileStorage.loadDataFromSaveFile(file)).getTagList(), readBack.getTagList());
+        for (ReadOnlyTask task : readBack.getTaskList()) {
+            assertTrue(readBack.getTagList().containsAll(task.getTagSet()));
+        }
+    }
+
+    @Test
+    public void read_savedDates_exactDatesWithoutParsing() throws Exception {
+        TaskManager original = new TaskManager();
+        TaskDate startDate = new TaskDate(1893456000123L, true);
+        TaskDate endDate = new TaskDate(1893459600456L, false);
+        original.addTask(new Task(new Name("Report"), startDate, endDate, new UniqueTagList()));
+        File file = testFolder.newFile("TempTaskManager.xml");
+        new XmlTaskManagerStorage(file.getPath()).saveTaskManager(original);
+
+        String content = FileUtil.readFromFile(file);
+        assertTrue(content.contains("<taskmanager version=\"2\">"));
+        assertTrue(content.contains("epochMillis=\"1893456000123\" hasTime=\"true\""));
+        ReadOnlyTask readBack = XmlTaskManagerReader.read(file).getTaskList().get(0);
+        assertEquals(startDate.getTime(), readBack.getStartDate().getTime());
+        assertTrue(readBack.getStartDate().hasTime());
+        assertEquals(endDate.getTime(), readBack.getEndDate().getTime());
+        assertFalse(readBack.getEndDate().hasTime());
+    }
+
+    @Test
+    public void read_versionOneDates_migrated() throws Exception {
+        File file = writeFile("<taskmanager>"
+                + "<tasks><name>Meeting</name><startDate>01 January 2030, 06:00 PM</startDate>"
+                + "<endDate>02 January 2030</endDate></tasks>"
+                + "<tasks><name>Edited</name><startDate>N/A</startDate><endDate>Jan 3 2030 5pm</endDate></tasks>"
+                + "</taskmanager>");
+
+        List<ReadOnlyTask> tasks = XmlTaskManagerReader.read(file).getTaskList();
+        assertEquals(toTaskDate(LocalDateTime.of(2030, 1, 1, 18, 0), true), tasks.get(0).getStartDate());
+        assertTrue(tasks.get(0).getStartDate().hasTime());
+        assertEquals(toTaskDate(LocalDateTime.of(2030, 1, 2, 23, 59, 59), false), tasks.get(0).getEndDate());
+        assertFalse(tasks.get(0).getEndDate().hasTime());
+        assertEquals(LocalDateTime.of(2030, 1, 3, 17, 0), toLocalDateTime(tasks.get(1).getEndDate()).withSecond(0)
+                .withNano(0));
+    }
+
+    @Test
+    public void read_newerVersion_exceptionThrown() throws Exception {
+        File file = writeFile("<taskmanager version=\"3\"></taskmanager>");
+
+        thrown.expect(DataConversionException.class);
+        XmlTaskManagerReader.read(file);
+    }
+
+    @Test
+    public void read_unknownElementsAndMissingDates_unknownSkipped() throws Exception {
+        File file = writeFile("<?xml version=\"1.0\"?><taskmanager><version>2</version>"
+                + "<tasks><name>Report</name><notes><line>draft</line></notes><tagged>work</tagged>"
+                + "<isDoneStatus>1</isDoneStatus></tasks></taskmanager>");
+
+        TaskManager readBack = XmlTaskManagerReader.read(file);
+        ReadOnlyTask task = readBack.getTaskList().get(0);
+        assertEquals(1, readBack.getTaskList().size());
+        assertEquals("Report", task.getName().fullName);
+        assertTrue(task.isFloating());
+        assertTrue(task.isDone());
+        assertEquals(new Tag("work"), readBack.getTagList().get(0));
+    }
+
+    @Test
+    public void read_duplicateTasks_exceptionThrown() throws Exception {
+        String task = "<tasks><name>Report</name><startDate>N/A</startDate><endDate>N/A</endDate></tasks>";
+        File file = writeFile("<taskmanager>" + task + task + "</taskmanager>");
+
+        thrown.expect(DataConversionException.class);
+        XmlTaskManagerReader.read(file);
+    }
+
+    @Test
+    public void read_notTaskManager_exceptionThrown() throws Exception {
+        File file = writeFile("<addressbook></addressbook>");
+
+        thrown.expect(DataConversionException.class);
+        XmlTaskManagerReader.read(file);
+    }
+
+    private File writeFile(String content) throws Exception {
+        File file = testFolder.newFile();
+        FileUtil.writeToFile(file, content);
+        return file;
+    }
+
+    private static TaskDate toTaskDate(LocalDateTime dateTime, boolean hasTime) {
+        return new TaskDate(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), hasTime);
+    }
+
+    private static LocalDateTime toLocalDateTime(TaskDate date) {
+        return LocalDateTime.ofInstant(date.getTaskDate().toInstant(), ZoneId.systemDefault());
+    }
+
+    private static List<Boolean> getDoneStatuses(ReadOnlyTaskManager taskManager) {
+        return taskManager.getTaskList().stream().map(ReadOnlyTask::isDone).collect(Collectors.toList());
+    }
+}
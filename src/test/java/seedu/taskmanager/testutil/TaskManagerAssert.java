@@ -0,0 +1,33 @@
+package seedu.taskmanager.testutil;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.taskmanager.model.ReadOnlyTaskManager;
+
+/**
+ * Assertions on task managers read back from storage.
+ */
+public class TaskManagerAssert {
+
+    /**
+     * Asserts that {@code actual} has the same tasks in the same order as {@code expected}, with the same details and
+     * tags, and the same master tag list.
+     */
+    public static void assertSameData(ReadOnlyTaskManager expected, ReadOnlyTaskManager actual) {
+        assertEquals(expected.getTaskList(), actual.getTaskList());
+        assertEquals(getDetails(expected), getDetails(actual));
+        assertEquals(expected.getTagList(), actual.getTagList());
+    }
+
+    /**
+     * Returns every detail of each task in {@code taskManager}, including those left out of task equality.
+     */
+    public static List<String> getDetails(ReadOnlyTaskManager taskManager) {
+        return taskManager.getTaskList().stream()
+                .map(task -> task.isDone() + " " + task.getTagSet() + " " + task.getAsText())
+                .collect(Collectors.toList());
+    }
+}
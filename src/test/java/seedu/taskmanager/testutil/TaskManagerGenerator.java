@@ -0,0 +1,32 @@
+package seedu.taskmanager.testutil;
+
+import seedu.taskmanager.commons.exceptions.IllegalValueException;
+import seedu.taskmanager.model.TaskManager;
+import seedu.taskmanager.model.tag.Tag;
+import seedu.taskmanager.model.tag.UniqueTagList;
+import seedu.taskmanager.model.task.Name;
+import seedu.taskmanager.model.task.Task;
+import seedu.taskmanager.model.task.TaskDate;
+
+/**
+ * A utility class to generate large task managers for storage and memory tests.
+ */
+public class TaskManagerGenerator {
+
+    public static final long JAN_1_2030 = 1893456000000L;
+    public static final long HOUR = 3600000L;
+
+    /**
+     * Returns a task manager with a mix of floating tasks, deadlines and events, some of them done.
+     */
+    public static TaskManager createTaskManager(int taskCount) throws IllegalValueException {
+        TaskManager taskManager = new TaskManager();
+        for (int i = 0; i < taskCount; i++) {
+            TaskDate startDate = i % 3 == 2 ? new TaskDate(JAN_1_2030 + i * HOUR, true) : null;
+            TaskDate endDate = i % 3 == 0 ? null : new TaskDate(JAN_1_2030 + (i + 1) * HOUR, i % 2 == 0);
+            UniqueTagList tags = new UniqueTagList(new Tag("group" + i % 7), new Tag("priority" + i % 3));
+            taskManager.addTask(new Task(new Name("task number " + i), startDate, endDate, tags, i % 5 == 0));
+        }
+        return taskManager;
+    }
+}
@@ -1,9 +1,13 @@
 
 package seedu.taskmanager.testutil;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import seedu.taskmanager.logic.parser.DateTimeUtil;
+import seedu.taskmanager.model.tag.Tag;
 import seedu.taskmanager.model.tag.UniqueTagList;
 import seedu.taskmanager.model.task.Name;
 import seedu.taskmanager.model.task.ReadOnlyTask;
@@ -68,6 +72,11 @@ public class TestTask implements ReadOnlyTask {
         return endDate.orElse(null);
     }
 
+    @Override
+    public Set<Tag> getTagSet() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(tags.asObservableList()));
+    }
+
     @Override
     public UniqueTagList getTags() {
         return tags;